@@ -0,0 +1,107 @@
+package com.example.delivery.eta.scheduler;
+
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.stat.domain.StoreDelayDelta;
+import com.example.delivery.store.domain.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장별 지연 통계 집계 루프 벤치마크
+ * - groupThenAggregate: 매장별 List<Order>로 모은 뒤 다시 순회하는 기존 EtaScheduler 방식
+ * - foldIntoDeltas: 한 번 순회하며 매장별 StoreDelayDelta에 바로 누적하는 방식 (배치 리스너 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreGroupingBenchmark {
+
+    @Param({"10000", "100000"})
+    public int orderCount;
+
+    @Param({"1000"})
+    public int storeCount;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Store> stores = new ArrayList<>(storeCount);
+        for (long id = 1; id <= storeCount; id++) {
+            stores.add(Store.builder().id(id).name("매장" + id).avgPrepMinutes(15).build());
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 6, 18, 0, 0);
+        orders = new ArrayList<>(orderCount);
+        for (long id = 1; id <= orderCount; id++) {
+            LocalDateTime eta = base.plusMinutes(random.nextInt(24 * 60));
+            orders.add(Order.builder()
+                    .id(id)
+                    .store(stores.get(random.nextInt(storeCount)))
+                    .eta(eta)
+                    .deliveredAt(eta.plusMinutes(random.nextInt(30) - 10))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int groupThenAggregate() {
+        Map<Long, List<Order>> ordersByStore = new HashMap<>();
+        for (Order order : orders) {
+            Long storeId = order.getStore().getId();
+            if (!ordersByStore.containsKey(storeId)) {
+                ordersByStore.put(storeId, new ArrayList<>());
+            }
+            ordersByStore.get(storeId).add(order);
+        }
+
+        int checksum = 0;
+        for (Map.Entry<Long, List<Order>> entry : ordersByStore.entrySet()) {
+            int delayed = 0;
+            long totalDelayMinutes = 0L;
+            LocalDateTime latestDeliveredAt = null;
+            for (Order order : entry.getValue()) {
+                if (order.isDelayed()) {
+                    delayed++;
+                    totalDelayMinutes += Duration.between(order.getEta(), order.getDeliveredAt()).toMinutes();
+                }
+                if (latestDeliveredAt == null || order.getDeliveredAt().isAfter(latestDeliveredAt)) {
+                    latestDeliveredAt = order.getDeliveredAt();
+                }
+            }
+            checksum += delayed + (int) totalDelayMinutes;
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int foldIntoDeltas() {
+        Map<Long, StoreDelayDelta> deltas = new HashMap<>();
+        for (Order order : orders) {
+            Store store = order.getStore();
+            deltas.computeIfAbsent(store.getId(), id -> new StoreDelayDelta(id, store.getName())).add(order);
+        }
+
+        int checksum = 0;
+        for (StoreDelayDelta delta : deltas.values()) {
+            checksum += delta.getNewDelayed() + (int) delta.getNewDelayMinutes();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 이벤트 바이너리 형식 직렬화/역직렬화 벤치마크 (EventJsonBenchmark와 같은 이벤트로 비교)
+ * 메시지 크기(bytes)는 시작 시 JSON과 함께 출력함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBinaryBenchmark {
+
+    private DeliveryCompletedEvent deliveryEvent;
+    private EtaUpdatedEvent etaEvent;
+    private byte[] deliveryBinary;
+    private byte[] etaBinary;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime time = LocalDateTime.of(2025, 6, 18, 13, 45, 12, 345_678_000);
+        deliveryEvent = new DeliveryCompletedEvent(123_456L, time, 42L);
+        etaEvent = new EtaUpdatedEvent(123_456L, 45L, time);
+        deliveryBinary = EventBinaryCodec.encode(deliveryEvent);
+        etaBinary = EventBinaryCodec.encode(etaEvent);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        System.out.printf("DeliveryCompletedEvent - json: %d bytes, binary: %d bytes%n",
+                objectMapper.writeValueAsBytes(deliveryEvent).length, deliveryBinary.length);
+        System.out.printf("EtaUpdatedEvent - json: %d bytes, binary: %d bytes%n",
+                objectMapper.writeValueAsBytes(etaEvent).length, etaBinary.length);
+    }
+
+    @Benchmark
+    public byte[] serializeDeliveryCompleted() {
+        return EventBinaryCodec.encode(deliveryEvent);
+    }
+
+    @Benchmark
+    public Object deserializeDeliveryCompleted() {
+        return EventBinaryCodec.decode(deliveryBinary);
+    }
+
+    @Benchmark
+    public byte[] serializeEtaUpdated() {
+        return EventBinaryCodec.encode(etaEvent);
+    }
+
+    @Benchmark
+    public Object deserializeEtaUpdated() {
+        return EventBinaryCodec.decode(etaBinary);
+    }
+}
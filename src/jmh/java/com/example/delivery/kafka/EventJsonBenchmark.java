@@ -0,0 +1,66 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 이벤트 JSON 직렬화/역직렬화 벤치마크 (Spring Kafka JsonSerializer와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private DeliveryCompletedEvent deliveryEvent;
+    private EtaUpdatedEvent etaEvent;
+    private byte[] deliveryJson;
+    private byte[] etaJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime time = LocalDateTime.of(2025, 6, 18, 13, 45, 12, 345_678_000);
+        deliveryEvent = new DeliveryCompletedEvent(123_456L, time, 42L);
+        etaEvent = new EtaUpdatedEvent(123_456L, 45L, time);
+        deliveryJson = objectMapper.writeValueAsBytes(deliveryEvent);
+        etaJson = objectMapper.writeValueAsBytes(etaEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeDeliveryCompleted() throws IOException {
+        return objectMapper.writeValueAsBytes(deliveryEvent);
+    }
+
+    @Benchmark
+    public DeliveryCompletedEvent deserializeDeliveryCompleted() throws IOException {
+        return objectMapper.readValue(deliveryJson, DeliveryCompletedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeEtaUpdated() throws IOException {
+        return objectMapper.writeValueAsBytes(etaEvent);
+    }
+
+    @Benchmark
+    public EtaUpdatedEvent deserializeEtaUpdated() throws IOException {
+        return objectMapper.readValue(etaJson, EtaUpdatedEvent.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.delivery.order.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order.isDelayed / getDelayMinutes 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+
+    private Order onTimeOrder;
+    private Order delayedOrder;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime eta = LocalDateTime.of(2025, 6, 18, 12, 30);
+        onTimeOrder = Order.builder().id(1L).eta(eta).deliveredAt(eta.plusMinutes(3)).build();
+        delayedOrder = Order.builder().id(2L).eta(eta).deliveredAt(eta.plusMinutes(17)).build();
+    }
+
+    @Benchmark
+    public boolean isDelayedOnTime() {
+        return onTimeOrder.isDelayed();
+    }
+
+    @Benchmark
+    public boolean isDelayedLate() {
+        return delayedOrder.isDelayed();
+    }
+
+    @Benchmark
+    public long delayMinutesLate() {
+        return delayedOrder.getDelayMinutes();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.delivery.order.service;
+
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.order.dto.OrderRequest;
+import com.example.delivery.store.domain.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService.calculateETA (피크 시간 판단, 매장별 ETA 보정값 조회 포함) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderServiceBenchmark {
+
+    private OrderService orderService;
+    private Store store;
+    private OrderRequest request;
+    private LocalDateTime peakTime;
+    private LocalDateTime offPeakTime;
+
+    @Setup
+    public void setUp() {
+        // calculateETA는 저장소/프로듀서를 사용하지 않으므로 의존성 없이 생성
+        // 보정 모델은 매장 1의 모든 시간대에 보정값이 학습된 상태로 준비
+        EtaCorrectionModel etaCorrectionModel = new EtaCorrectionModel(null, null, 0.1, 30, 60);
+        for (int day = 0; day < 7; day++) {
+            for (int hour = 0; hour < 24; hour++) {
+                etaCorrectionModel.observe(1L, LocalDateTime.of(2025, 6, 16 + day, hour, 0), 20);
+            }
+        }
+        orderService = new OrderService(null, null, null, null, etaCorrectionModel, null, null);
+        store = Store.builder().id(1L).name("벤치마크 매장").avgPrepMinutes(15).build();
+        request = new OrderRequest();
+        request.setUserId(1L);
+        request.setStoreId(1L);
+        request.setDistanceKm(2.5);
+        request.setEstimatedDeliveryTimeMinutes(15);
+        peakTime = LocalDateTime.of(2025, 6, 18, 12, 30);
+        offPeakTime = LocalDateTime.of(2025, 6, 18, 15, 30);
+    }
+
+    @Benchmark
+    public LocalDateTime calculateEtaPeak() {
+        return orderService.calculateETA(store, request, peakTime);
+    }
+
+    @Benchmark
+    public LocalDateTime calculateEtaOffPeak() {
+        return orderService.calculateETA(store, request, offPeakTime);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.stat.domain.StoreDelayDelta;
+import com.example.delivery.stat.dto.StoreDelaySummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연률 순위 조회 벤치마크
+ * - fullSort: 모든 매장을 DTO로 만든 뒤 정렬하는 기존 getStoreRanking 방식
+ * - indexTop20: 메모리 순위 인덱스(StoreDelayRanking)에서 상위 20개만 읽는 방식
+ * - indexApply: 순위 인덱스에 매장 변화량 하나를 반영하는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreRankingBenchmark {
+
+    @Param({"10000", "50000"})
+    public int storeCount;
+
+    private List<StoreDelaySummaryResponse> summaries;
+    private StoreDelayRanking ranking;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        summaries = new ArrayList<>(storeCount);
+        ranking = new StoreDelayRanking(null);
+
+        for (long id = 1; id <= storeCount; id++) {
+            int total = 100 + random.nextInt(1000);
+            int delayed = random.nextInt(total);
+            summaries.add(StoreDelaySummaryResponse.builder()
+                    .storeId(id)
+                    .storeName("매장" + id)
+                    .totalOrders(total)
+                    .delayedOrders(delayed)
+                    .totalDelayMinutes(delayed * 7L)
+                    .delayRate((double) delayed / total * 100)
+                    .build());
+            ranking.apply(StoreDelayDelta.of(id, "매장" + id, total, delayed, delayed * 7L, LocalDateTime.now()));
+        }
+    }
+
+    @Benchmark
+    public List<StoreDelaySummaryResponse> fullSort() {
+        List<StoreDelaySummaryResponse> responseList = new ArrayList<>(summaries);
+        responseList.sort(new Comparator<StoreDelaySummaryResponse>() {
+            @Override
+            public int compare(StoreDelaySummaryResponse o1, StoreDelaySummaryResponse o2) {
+                return Double.compare(o2.getDelayRate(), o1.getDelayRate());
+            }
+        });
+        return responseList;
+    }
+
+    @Benchmark
+    public List<StoreDelayRanking.Entry> indexTop20() {
+        return ranking.getRange(0, 20);
+    }
+
+    @Benchmark
+    public void indexApply() {
+        long storeId = 1 + random.nextInt(storeCount);
+        boolean delayed = random.nextInt(5) == 0;
+        ranking.apply(StoreDelayDelta.of(storeId, null, 1, delayed ? 1 : 0, delayed ? 9 : 0, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.delivery.loadgen;
+
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.stat.service.StoreDelaySummaryService;
+import org.HdrHistogram.Recorder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 완료 요청부터 StoreDelaySummary 반영까지의 종단 간 지연 시간을 기록하는 추적기
+ *
+ * StoreDelaySummaryService의 processCompletedOrder(s) 호출을 감싸서,
+ * 호출이 끝난 시점(트랜잭션 안이면 커밋 시점)에 해당 주문들의 지연 시간을 히스토그램에 기록함
+ */
+public class E2eLatencyTracker implements BeanPostProcessor, Ordered {
+
+    // 주문 ID별 배달 완료 요청 시각 (System.nanoTime)
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 종단 간 지연 시간 (마이크로초)
+    private final Recorder recorder = new Recorder(3);
+
+    /**
+     * 배달 완료 요청을 보내기 직전에 호출하는 메서드
+     * @param orderId 주문 ID
+     * @param sentAtNanos 요청 시각 (System.nanoTime)
+     */
+    public void expect(long orderId, long sentAtNanos) {
+        pending.put(orderId, sentAtNanos);
+    }
+
+    /**
+     * 아직 통계에 반영되지 않은 주문 수를 반환하는 메서드
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public Recorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof StoreDelaySummaryService)) return bean;
+
+        MethodInterceptor interceptor = invocation -> {
+            Object result = invocation.proceed();
+            String method = invocation.getMethod().getName();
+            if (method.equals("processCompletedOrder")) {
+                onProcessed(List.of(((Order) invocation.getArguments()[0]).getId()));
+            } else if (method.equals("processCompletedOrders")) {
+                List<Long> orderIds = new ArrayList<>();
+                for (Object order : (List<?>) invocation.getArguments()[0]) {
+                    orderIds.add(((Order) order).getId());
+                }
+                onProcessed(orderIds);
+            }
+            return result;
+        };
+
+        // 이미 트랜잭션 프록시라면 어드바이스만 추가하고, 아니면 새 프록시로 감쌈
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy();
+    }
+
+    private void onProcessed(List<Long> orderIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(orderIds);
+                }
+            });
+            return;
+        }
+        record(orderIds);
+    }
+
+    private void record(List<Long> orderIds) {
+        long now = System.nanoTime();
+        for (Long orderId : orderIds) {
+            Long sentAt = pending.remove(orderId);
+            if (sentAt != null) {
+                recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(now - sentAt));
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.delivery.loadgen;
+
+import com.example.delivery.DeliveryApplication;
+import com.example.delivery.store.domain.Store;
+import com.example.delivery.store.repository.StoreRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 오픈 루프 방식의 종단 간 부하 생성기
+ *
+ * 내장 Kafka 브로커와 H2(MySQL 모드) 위에 애플리케이션을 띄운 뒤, 정해진 속도로 아래 시나리오를 실행함
+ * (응답을 기다리지 않고 예정된 시각마다 새 시나리오를 시작하므로, 서버가 느려져도 요청 속도가 줄지 않음)
+ *
+ * 1. POST /orders (또는 /orders/async)   → 주문 생성 지연 시간 (예정 시각 기준, coordinated omission 보정)
+ * 2. POST /orders/{id}/confirm          → 배달 완료 요청 지연 시간
+ *                                          + 요청부터 StoreDelaySummary 반영까지의 종단 간 지연 시간
+ * 3. GET /stores/ranking?limit=20       → ranking-ratio 비율로 실행
+ *
+ * 인자 (key=value):
+ * - rate: 초당 시나리오 수 (기본 200)
+ * - duration: 부하 시간(초) (기본 30)
+ * - stores: 매장 수 (기본 100)
+ * - partitions: delivery-status 파티션 수 (기본 3)
+ * - ranking-ratio: 순위 조회 비율 (기본 0.1)
+ * - drain: 부하 종료 후 통계 반영을 기다릴 최대 시간(초) (기본 30)
+ * - create: 주문 생성 방식 sync(POST /orders) | async(POST /orders/async) (기본 sync)
+ * - spring.* / smarteta.* / server.*: 애플리케이션 설정으로 그대로 전달
+ *   (예: smarteta.kafka.delivery-status.batch.enabled=true, spring.threads.virtual.enabled=true,
+ *    spring.kafka.producer.properties.smarteta.event.binary-topics=delivery-status.*)
+ */
+public class LoadGenerator {
+
+    private final int rate;
+    private final int durationSeconds;
+    private final int storeCount;
+    private final double rankingRatio;
+    private final int drainSeconds;
+    private final String createPath;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Recorder createLatency = new Recorder(3);
+    private final Recorder confirmLatency = new Recorder(3);
+    private final Recorder rankingLatency = new Recorder(3);
+    private final AtomicLong errors = new AtomicLong();
+
+    private E2eLatencyTracker tracker;
+    private String baseUrl;
+    private List<Long> storeIds;
+
+    LoadGenerator(Map<String, String> options) {
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        this.storeCount = Integer.parseInt(options.getOrDefault("stores", "100"));
+        this.rankingRatio = Double.parseDouble(options.getOrDefault("ranking-ratio", "0.1"));
+        this.drainSeconds = Integer.parseInt(options.getOrDefault("drain", "30"));
+        this.createPath = "async".equals(options.get("create")) ? "/orders/async" : "/orders";
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        Map<String, Object> appProperties = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) continue;
+            String key = arg.substring(0, eq);
+            String value = arg.substring(eq + 1);
+            if (key.startsWith("spring.") || key.startsWith("smarteta.") || key.startsWith("server.")) {
+                appProperties.put(key, value);
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        int partitions = Integer.parseInt(options.getOrDefault("partitions", "3"));
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, partitions, "delivery-status", "eta-updated");
+        broker.afterPropertiesSet();
+
+        try {
+            LoadGenerator generator = new LoadGenerator(options);
+            try (ConfigurableApplicationContext context = generator.start(broker.getBrokersAsString(), appProperties)) {
+                generator.awaitListeners(context, partitions);
+                generator.seedStores(context);
+                generator.run();
+            }
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    /**
+     * 내장 브로커와 인메모리 DB를 바라보도록 애플리케이션을 시작하는 메서드
+     */
+    private ConfigurableApplicationContext start(String bootstrapServers, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.kafka.bootstrap-servers", bootstrapServers);
+        properties.put("spring.kafka.consumer.auto-offset-reset", "earliest");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadgen;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        // 마이그레이션과 파티션 관리는 MySQL 전용 DDL이므로 인메모리 DB에서는 끔
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("smarteta.orders.archive.enabled", "false");
+        properties.put("smarteta.outbox.relay.skip-locked", "false");
+        properties.putAll(overrides);
+
+        tracker = new E2eLatencyTracker();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DeliveryApplication.class)
+                .properties(properties)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("e2eLatencyTracker", tracker))
+                .run();
+
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        return context;
+    }
+
+    // 리스너가 파티션을 할당받기 전에 보낸 메시지가 지연 시간에 섞이지 않도록 대기
+    private void awaitListeners(ConfigurableApplicationContext context, int partitions) {
+        KafkaListenerEndpointRegistry registry = context.getBean(KafkaListenerEndpointRegistry.class);
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, partitions);
+        }
+    }
+
+    private void seedStores(ConfigurableApplicationContext context) {
+        StoreRepository storeRepository = context.getBean(StoreRepository.class);
+        List<Store> stores = new ArrayList<>(storeCount);
+        for (int i = 1; i <= storeCount; i++) {
+            stores.add(Store.builder()
+                    .name("부하테스트 매장 " + i)
+                    .avgPrepMinutes(10 + ThreadLocalRandom.current().nextInt(15))
+                    .address("서울")
+                    .build());
+        }
+
+        storeIds = new ArrayList<>(storeCount);
+        for (Store store : storeRepository.saveAll(stores)) {
+            storeIds.add(store.getId());
+        }
+    }
+
+    /**
+     * 예정된 시각마다 시나리오를 가상 스레드에서 시작하고, 종료 후 결과를 출력하는 메서드
+     */
+    private void run() throws InterruptedException {
+        System.out.printf("부하 시작: %d scenarios/s, %ds, 매장 %d곳, 대상 %s, 주문 생성 %s%n",
+                rate, durationSeconds, storeCount, baseUrl, createPath);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        long start = System.nanoTime();
+        long scheduled = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended - start >= durationNanos) break;
+
+                long wait = intended - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                executor.execute(() -> runScenario(intended));
+                scheduled++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        // 아직 통계에 반영되지 않은 주문을 기다림
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+        while (tracker.pendingCount() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(100);
+        }
+
+        System.out.println();
+        System.out.printf("실행 시나리오: %d (%.1f/s), 오류: %d, 미반영 주문: %d%n",
+                scheduled, scheduled * 1e9 / elapsedNanos, errors.get(), tracker.pendingCount());
+        printHistogram("POST " + createPath, createLatency);
+        printHistogram("POST /orders/{id}/confirm", confirmLatency);
+        printHistogram("GET /stores/ranking", rankingLatency);
+        printHistogram("confirm → StoreDelaySummary", tracker.recorder());
+    }
+
+    private void runScenario(long intendedNanos) {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            // 1. 주문 생성
+            long storeId = storeIds.get(random.nextInt(storeIds.size()));
+            String body = "{\"userId\":" + random.nextInt(1, 100_000) + ",\"storeId\":" + storeId
+                    + ",\"distanceKm\":2.5,\"estimatedDeliveryTimeMinutes\":" + random.nextInt(10, 30) + "}";
+            HttpResponse<String> created = send(HttpRequest.newBuilder(URI.create(baseUrl + createPath))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            createLatency.recordValue(micros(System.nanoTime() - intendedNanos));
+            long orderId = objectMapper.readTree(created.body()).get("orderId").asLong();
+
+            // 2. 배달 완료 (일부는 ETA보다 늦게 도착하도록 배달 시각을 분산)
+            LocalDateTime deliveredAt = LocalDateTime.now()
+                    .plusMinutes(random.nextInt(20, 60))
+                    .truncatedTo(ChronoUnit.SECONDS);
+            long confirmStart = System.nanoTime();
+            tracker.expect(orderId, confirmStart);
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/orders/" + orderId + "/confirm?deliveredAt=" + deliveredAt))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+            confirmLatency.recordValue(micros(System.nanoTime() - confirmStart));
+
+            // 3. 순위 조회
+            if (random.nextDouble() < rankingRatio) {
+                long rankingStart = System.nanoTime();
+                send(HttpRequest.newBuilder(URI.create(baseUrl + "/stores/ranking?limit=20")).GET().build());
+                rankingLatency.recordValue(micros(System.nanoTime() - rankingStart));
+            }
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " → " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static void printHistogram(String name, Recorder recorder) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        System.out.printf("%-30s count=%-8d p50=%8.2fms p99=%8.2fms p999=%8.2fms max=%8.2fms%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
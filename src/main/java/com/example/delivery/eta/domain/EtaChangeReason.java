@@ -0,0 +1,11 @@
+package com.example.delivery.eta.domain;
+
+/**
+ * ETA 변경 원인 (EtaHistory.reason에 이름으로 저장됨)
+ */
+public enum EtaChangeReason {
+    // 매장의 ETA 연장 요청
+    STORE_EXTENSION,
+    // 조리 완료에 따른 재계산
+    COOKING_COMPLETED
+}
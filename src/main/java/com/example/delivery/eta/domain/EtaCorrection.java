@@ -0,0 +1,36 @@
+package com.example.delivery.eta.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(EtaCorrectionId.class)
+/* 매장 + 요일·시간대별 ETA 보정값 스냅샷 (재시작 시 학습된 보정값을 복원하기 위한 도메인) */
+public class EtaCorrection {
+
+    // 매장 ID
+    @Id
+    private Long storeId;
+
+    // 주 단위 시간대 (월요일 0시 = 0 ~ 일요일 23시 = 167)
+    @Id
+    private int hourOfWeek;
+
+    // ETA 보정값(분)
+    private double correctionMinutes;
+
+    // 스냅샷 시각
+    private LocalDateTime updatedAt;
+}
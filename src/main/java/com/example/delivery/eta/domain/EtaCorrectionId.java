@@ -0,0 +1,22 @@
+package com.example.delivery.eta.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * EtaCorrection의 복합 키 (매장 ID + 주 단위 시간대)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EtaCorrectionId implements Serializable {
+
+    private Long storeId;
+
+    private int hourOfWeek;
+}
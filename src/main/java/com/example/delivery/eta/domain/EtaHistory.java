@@ -29,7 +29,7 @@ public class EtaHistory {
     // 새로운 ETA
     private LocalDateTime newEta;
 
-    // ETA 변경 원인
+    // ETA 변경 원인 (EtaChangeReason 이름)
     private String reason;
 
     // ETA 변경 시각
@@ -0,0 +1,17 @@
+package com.example.delivery.eta.dto;
+
+import com.example.delivery.eta.domain.EtaChangeReason;
+
+import java.time.LocalDateTime;
+
+/**
+ * EtaHistory로 기록할 ETA 변경 한 건
+ * @param orderId 주문 ID
+ * @param previousEta 기존 ETA
+ * @param newEta 새로운 ETA
+ * @param reason 변경 원인
+ * @param adjustedAt 변경 시각
+ */
+public record EtaChange(Long orderId, LocalDateTime previousEta, LocalDateTime newEta,
+                        EtaChangeReason reason, LocalDateTime adjustedAt) {
+}
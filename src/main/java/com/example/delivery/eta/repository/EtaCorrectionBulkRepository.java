@@ -0,0 +1,52 @@
+package com.example.delivery.eta.repository;
+
+import com.example.delivery.eta.domain.EtaCorrection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * ETA 보정값 스냅샷을 JDBC 배치로 한 번에 저장하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class EtaCorrectionBulkRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO eta_correction (store_id, hour_of_week, correction_minutes, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                correction_minutes = VALUES(correction_minutes),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보정값을 하나의 JDBC 배치로 저장하는 메서드 (행이 있으면 덮어씀)
+     * @param corrections 매장 + 시간대별 보정값
+     */
+    public void upsertAll(List<EtaCorrection> corrections) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EtaCorrection correction = corrections.get(i);
+                ps.setLong(1, correction.getStoreId());
+                ps.setInt(2, correction.getHourOfWeek());
+                ps.setDouble(3, correction.getCorrectionMinutes());
+                ps.setTimestamp(4, Timestamp.valueOf(correction.getUpdatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return corrections.size();
+            }
+        });
+    }
+}
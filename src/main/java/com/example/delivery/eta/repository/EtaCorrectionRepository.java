@@ -0,0 +1,8 @@
+package com.example.delivery.eta.repository;
+
+import com.example.delivery.eta.domain.EtaCorrection;
+import com.example.delivery.eta.domain.EtaCorrectionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EtaCorrectionRepository extends JpaRepository<EtaCorrection, EtaCorrectionId> {
+}
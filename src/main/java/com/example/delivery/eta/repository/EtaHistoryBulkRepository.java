@@ -0,0 +1,53 @@
+package com.example.delivery.eta.repository;
+
+import com.example.delivery.eta.dto.EtaChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * ETA 변경 이력을 JDBC 배치로 한 번에 저장하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class EtaHistoryBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO eta_history (order_id, previous_eta, new_eta, reason, adjusted_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ETA 변경 목록을 하나의 JDBC 배치로 저장하는 메서드
+     * @param changes 저장할 ETA 변경 목록
+     */
+    public void insertAll(List<EtaChange> changes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EtaChange change = changes.get(i);
+                ps.setLong(1, change.orderId());
+                if (change.previousEta() == null) {
+                    ps.setNull(2, Types.TIMESTAMP);
+                } else {
+                    ps.setTimestamp(2, Timestamp.valueOf(change.previousEta()));
+                }
+                ps.setTimestamp(3, Timestamp.valueOf(change.newEta()));
+                ps.setString(4, change.reason().name());
+                ps.setTimestamp(5, Timestamp.valueOf(change.adjustedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+}
@@ -1,91 +1,152 @@
 package com.example.delivery.eta.scheduler;
 
-import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.dto.StoreDelayAggregation;
 import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.stat.repository.StoreStatCheckpointRepository;
 import com.example.delivery.stat.service.StoreDelaySummaryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.*;
-
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하루 동안 배달 완료된 주문을 매장별로 모아 지연 통계에 반영하는 일별 배치
+ *
+ * 지연 통계는 배달 완료 이벤트마다 StoreDelaySummaryService가 바로 반영하므로(실시간 경로가 기준),
+ * 이 배치를 함께 켜면 같은 주문이 두 번 누적됨
+ * 따라서 smarteta.stats.daily-job.enabled=true 일 때만 등록되며(기본 꺼짐),
+ * 배달 완료 이벤트를 Kafka로 처리하지 않는 환경에서만 켬
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "smarteta.stats.daily-job.enabled", havingValue = "true")
 public class EtaScheduler {
 
     private final OrderRepository orderRepository;
     private final StoreDelaySummaryService summaryService;
+    private final StoreStatCheckpointRepository checkpointRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 통계를 반영할 스레드 수
+    @Value("${smarteta.stats.parallelism:4}")
+    private int parallelism;
+
+    // 한 스레드가 한 번에 맡는 매장 수
+    @Value("${smarteta.stats.chunk-size:200}")
+    private int chunkSize;
 
     /**
      * 매일 자정에 하루 동안 배달 완료된 주문을 기반으로 각 매장의 지연 통계를 누적 반영하는 스케줄러 메서드
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void updateDelayStatsForAllStores() {
-        log.info("------[ETA 갱신 시작]------");
-
-        LocalDateTime start = LocalDate.now().minusDays(1).atStartOfDay(); // 어제 00:00
-        LocalDateTime end = LocalDate.now().atStartOfDay();                // 오늘 00:00
-
-        List<Order> completedOrders = orderRepository.findByDeliveredAtBetween(start, end);
-
-        // 매장별 주문 그룹핑을 위한 Map
-        Map<Long, List<Order>> ordersByStore = new HashMap<>();
-
-        // 전체 배달 완료 주문 리스트를 매장별로 그룹핑하여 Map에 저장
-        for (Order order : completedOrders) {
-            Long storeId = order.getStore().getId();
+        runDailyStats(LocalDate.now().minusDays(1)); // 어제
+    }
 
-            // 매장 ID가 없으면 새 리스트를 생성
-            if (!ordersByStore.containsKey(storeId)) {
-                ordersByStore.put(storeId, new ArrayList<>());
+    /**
+     * 특정 날짜에 배달 완료된 주문을 기반으로 각 매장의 지연 통계를 누적 반영하는 메서드
+     * 매장별 집계(총 주문 수, 지연 주문 수, 지연 시간 합, 마지막 배달 시각)는 DB의 GROUP BY로 계산하여
+     * 주문 수와 무관하게 매장 수만큼의 행만 메모리에 올림
+     *
+     * 처리 로직:
+     * 1. 해당 날짜의 매장별 집계를 조회
+     * 2. 이미 체크포인트가 있는 매장(이전 실행에서 반영 완료)은 제외
+     * 3. 남은 매장을 chunk 단위로 나누어 제한된 스레드 풀에서 병렬로 반영
+     *    - 매장별 반영은 체크포인트와 같은 트랜잭션으로 처리되므로, 실패한 매장만 다음 실행에서 다시 반영됨
+     *
+     * @param statDate 통계 대상 날짜
+     */
+    public void runDailyStats(LocalDate statDate) {
+        log.info("------[ETA 갱신 시작] 대상 날짜: {} ------", statDate);
+        Timer.Sample jobTimer = Timer.start(meterRegistry);
+
+        LocalDateTime start = statDate.atStartOfDay();            // 대상 날짜 00:00
+        LocalDateTime end = statDate.plusDays(1).atStartOfDay();  // 다음 날 00:00
+
+        // 1. 매장별 배달 완료 주문 집계
+        List<StoreDelayAggregation> aggregations = orderRepository.aggregateDelayStatsByStore(start, end);
+
+        // 2. 이전 실행에서 반영이 끝난 매장 제외
+        Set<Long> finished = new HashSet<>(checkpointRepository.findStoreIdsByStatDate(statDate));
+        List<StoreDelayAggregation> pending = new ArrayList<>();
+        for (StoreDelayAggregation aggregation : aggregations) {
+            if (!finished.contains(aggregation.getStoreId())) {
+                pending.add(aggregation);
             }
-
-            // 해당 매장 리스트에 주문 추가
-            ordersByStore.get(storeId).add(order);
         }
 
-        // 매장별 주문 통계를 계산하고 저장
-        for (Map.Entry<Long, List<Order>> entry : ordersByStore.entrySet()) {
-            Long storeId = entry.getKey();
-            List<Order> orders = entry.getValue();
-
-            int total = orders.size();          // 총 주문 수
-            int delayed = 0;                    // 지연된 주문 수
-            long totalDelayMinutes = 0L;        // 지연된 시간의 총합
-            LocalDateTime latestDeliveredAt = null;  // 가장 마지막 배달 시각
-
-            // 주문 목록 순회하며 지연 여부 판단 및 통계 누적
-            for (Order order : orders) {
-                if (order.isDelayed()) {
-                    delayed++;
-
-                    // 지연 시간(ETA와 실제 배달 시간의 차이)를 계산
-                    Duration delay = Duration.between(order.getEta(), order.getDeliveredAt());
-                    totalDelayMinutes += delay.toMinutes();
-                }
+        // 3. chunk 단위 병렬 반영
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("eta-stats-", 0).factory());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                List<StoreDelayAggregation> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                futures.add(executor.submit(() -> applyChunk(statDate, chunk, updated, failed)));
+            }
 
-                // 가장 마지막 배달 시간 찾기
-                if (latestDeliveredAt == null || order.getDeliveredAt().isAfter(latestDeliveredAt)) {
-                    latestDeliveredAt = order.getDeliveredAt();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.warn("통계 갱신 작업 실패 - 대상 날짜: {}, 원인: {}", statDate, e.getCause().getMessage());
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("통계 갱신 중단 - 대상 날짜: {}", statDate);
+        } finally {
+            executor.shutdownNow();
+        }
 
-            // 배달 시각이 없는 경우
-                // 1. 아직 배달이 완료되지 않은 경우(배달 중)
-                // 2. 배달이 없는 경우
-            if (latestDeliveredAt == null) {
-                log.info("분석 제외 - storeId: {} (해당 매장에 배달 완료된 주문 없음)", storeId);
-                continue; // 다음 매장으로 넘어감
-            }
+        // 실행 시간 및 매장별 결과 기록
+        jobTimer.stop(meterRegistry.timer("smarteta.stats.job"));
+        meterRegistry.counter("smarteta.stats.job.stores", "result", "updated").increment(updated.get());
+        meterRegistry.counter("smarteta.stats.job.stores", "result", "failed").increment(failed.get());
+        meterRegistry.counter("smarteta.stats.job.stores", "result", "skipped")
+                .increment(aggregations.size() - pending.size());
+
+        // 전체 매장 수 출력
+        log.info("------[ETA 통계 갱신 완료] 총 매장 수: {}, 이전 실행에서 완료: {}, 반영: {}, 실패: {} ------",
+                aggregations.size(), aggregations.size() - pending.size(), updated.get(), failed.get());
+    }
+
+    /**
+     * chunk에 포함된 매장들의 통계를 순서대로 반영하는 메서드
+     * 한 매장의 실패가 같은 chunk의 다른 매장 반영을 막지 않도록 매장별로 예외를 처리함
+     */
+    private void applyChunk(LocalDate statDate, List<StoreDelayAggregation> chunk,
+                            AtomicInteger updated, AtomicInteger failed) {
+        for (StoreDelayAggregation aggregation : chunk) {
+            Long storeId = aggregation.getStoreId();
+            int total = aggregation.getTotalOrders();           // 총 주문 수
+            int delayed = aggregation.getDelayedOrders();       // 지연된 주문 수
 
             try {
-                // 통계 업데이트
-                summaryService.update(storeId, total, delayed, totalDelayMinutes, latestDeliveredAt);
+                // 통계 업데이트 (이미 반영된 매장이면 false)
+                boolean applied = summaryService.applyDailyStats(statDate, storeId, total, delayed,
+                        aggregation.getTotalDelayMinutes(), aggregation.getLatestDeliveredAt());
+                if (!applied) continue;
+                updated.incrementAndGet();
 
                 // 로그 출력용 지연률 계산
                 double delayRate = (double) delayed * 100.0 / total;
@@ -93,12 +154,9 @@ public class EtaScheduler {
                         storeId, total, delayed, delayRate);
 
             } catch (RuntimeException e) { // 통계 업데이트 오류
+                failed.incrementAndGet();
                 log.warn("통계 업데이트 실패 - storeId: {}, 원인: {}", storeId, e.getMessage());
             }
         }
-
-        // 전체 매장 수 출력
-        log.info("------[ETA 통계 갱신 완료] 총 매장 수: {} ------", ordersByStore.size());
-
     }
-}
\ No newline at end of file
+}
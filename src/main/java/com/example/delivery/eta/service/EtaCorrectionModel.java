@@ -0,0 +1,188 @@
+package com.example.delivery.eta.service;
+
+import com.example.delivery.eta.domain.EtaCorrection;
+import com.example.delivery.eta.repository.EtaCorrectionBulkRepository;
+import com.example.delivery.eta.repository.EtaCorrectionRepository;
+import com.example.delivery.order.domain.Order;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 + 요일·시간대(주 단위 168칸)별 ETA 보정값을 배달 완료 결과로 학습하는 모델
+ *
+ * - 배달 완료 시 오차(실제 도착 - 주문 시 예측 ETA, 분)만큼 보정값을 alpha 비율로 옮김
+ *   매장 연장 / 조리 완료로 바뀐 현재 ETA가 아니라 주문 시 계산한 predictedEta를 기준으로 하므로,
+ *   학습 대상은 calculateETA의 오차뿐임
+ *   예측 ETA에는 이미 그 시점의 보정값이 들어 있으므로, 보정값은 "보정 전 ETA 대비 오차"의 EWMA가 됨
+ * - calculateETA에서는 매장 ID로 배열을 찾아 한 칸을 읽기만 하므로 O(1), 객체 생성 없음
+ * - 바뀐 매장의 보정값을 smarteta.eta.correction.snapshot-interval-ms 주기로 eta_correction에 저장하고,
+ *   시작 시 복원함
+ *
+ * 매장 ID를 키로 보낸 배달 완료 이벤트는 같은 파티션에서 순서대로 처리되지만, 재시도 토픽 등에서 같은 매장의 쓰기가
+ * 겹칠 수 있으므로 매장 배열의 쓰기는 배열 단위로 동기화함 (읽는 쪽은 직전 값이 보여도 무방함)
+ */
+@Slf4j
+@Component
+public class EtaCorrectionModel {
+
+    public static final int HOURS_PER_WEEK = 168;
+
+    private final EtaCorrectionRepository correctionRepository;
+    private final EtaCorrectionBulkRepository correctionBulkRepository;
+
+    // 새 오차를 반영하는 비율 (0~1)
+    private final double alpha;
+
+    // 보정값 상한(분, 절댓값)
+    private final double maxCorrectionMinutes;
+
+    // 한 건의 오차로 인정할 최대 크기(분, 절댓값) - 비정상적으로 늦은 완료 처리가 보정값을 흔들지 않도록 자름
+    private final double maxErrorMinutes;
+
+    // 매장 ID별 시간대 보정값(분)
+    private final ConcurrentHashMap<Long, double[]> corrections = new ConcurrentHashMap<>();
+
+    // 마지막 스냅샷 이후 보정값이 바뀐 매장
+    private final Set<Long> dirtyStores = ConcurrentHashMap.newKeySet();
+
+    public EtaCorrectionModel(EtaCorrectionRepository correctionRepository,
+                              EtaCorrectionBulkRepository correctionBulkRepository,
+                              @Value("${smarteta.eta.correction.alpha:0.1}") double alpha,
+                              @Value("${smarteta.eta.correction.max-minutes:30}") double maxCorrectionMinutes,
+                              @Value("${smarteta.eta.correction.max-error-minutes:60}") double maxErrorMinutes) {
+        this.correctionRepository = correctionRepository;
+        this.correctionBulkRepository = correctionBulkRepository;
+        this.alpha = alpha;
+        this.maxCorrectionMinutes = maxCorrectionMinutes;
+        this.maxErrorMinutes = maxErrorMinutes;
+    }
+
+    /**
+     * 매장의 해당 시간대 ETA 보정값을 반환하는 메서드
+     * @param storeId 매장 ID
+     * @param time ETA를 계산하는 시각
+     * @return 보정값(분, 반올림), 학습된 값이 없으면 0
+     */
+    public int correctionMinutes(Long storeId, LocalDateTime time) {
+        double[] hours = corrections.get(storeId);
+        if (hours == null) return 0;
+        return (int) Math.round(hours[hourOfWeek(time)]);
+    }
+
+    /**
+     * 배달 완료된 주문들의 ETA 오차를 보정값에 반영하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영함
+     * @param orders 배달 완료된 주문 목록
+     */
+    public void observe(List<Order> orders) {
+        if (orders.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    observeNow(orders);
+                }
+            });
+            return;
+        }
+        observeNow(orders);
+    }
+
+    /**
+     * 바뀐 매장의 보정값을 eta_correction에 저장하는 메서드
+     */
+    @Scheduled(initialDelayString = "${smarteta.eta.correction.snapshot-interval-ms:300000}",
+            fixedDelayString = "${smarteta.eta.correction.snapshot-interval-ms:300000}")
+    @PreDestroy
+    public void snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> storeIds = new ArrayList<>(dirtyStores);
+        List<EtaCorrection> rows = new ArrayList<>(storeIds.size() * HOURS_PER_WEEK);
+        for (Long storeId : storeIds) {
+            dirtyStores.remove(storeId);
+            double[] hours = corrections.get(storeId);
+            for (int hour = 0; hour < HOURS_PER_WEEK; hour++) {
+                rows.add(EtaCorrection.builder()
+                        .storeId(storeId)
+                        .hourOfWeek(hour)
+                        .correctionMinutes(hours[hour])
+                        .updatedAt(now)
+                        .build());
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        try {
+            correctionBulkRepository.upsertAll(rows);
+            log.info("ETA 보정값 스냅샷 저장 - 매장 수: {}, 행 수: {}", storeIds.size(), rows.size());
+        } catch (Exception e) {
+            log.error("ETA 보정값 스냅샷 저장 실패 - 매장 수: {}", storeIds.size(), e);
+            dirtyStores.addAll(storeIds);
+        }
+    }
+
+    /**
+     * eta_correction의 스냅샷으로 보정값을 복원하는 메서드 (애플리케이션 시작 시 한 번 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<EtaCorrection> rows = correctionRepository.findAll();
+        for (EtaCorrection row : rows) {
+            hours(row.getStoreId())[row.getHourOfWeek()] = row.getCorrectionMinutes();
+        }
+        log.info("ETA 보정값 복원 완료 - 행 수: {}", rows.size());
+    }
+
+    /**
+     * 주문 하나의 오차를 반영하는 메서드
+     * 오차는 ETA를 계산한 시각(주문 시각)의 시간대에 반영함
+     * @param storeId 매장 ID
+     * @param createdAt 주문 시각
+     * @param errorMinutes 실제 도착 - 예측 ETA (분, 늦으면 양수)
+     */
+    public void observe(Long storeId, LocalDateTime createdAt, double errorMinutes) {
+        double error = Math.max(-maxErrorMinutes, Math.min(maxErrorMinutes, errorMinutes));
+        double[] hours = hours(storeId);
+        int hour = hourOfWeek(createdAt);
+
+        synchronized (hours) {
+            double next = hours[hour] + alpha * error;
+            hours[hour] = Math.max(-maxCorrectionMinutes, Math.min(maxCorrectionMinutes, next));
+        }
+        dirtyStores.add(storeId);
+    }
+
+    private void observeNow(List<Order> orders) {
+        for (Order order : orders) {
+            // 예측 ETA가 없는 주문(컬럼 추가 전에 배달 완료 처리된 주문 등)은 학습하지 않음
+            if (order.getDeliveredAt() == null || order.getPredictedEta() == null || order.getCreatedAt() == null) continue;
+
+            double errorMinutes = Duration.between(order.getPredictedEta(), order.getDeliveredAt()).toSeconds() / 60.0;
+            observe(order.getStore().getId(), order.getCreatedAt(), errorMinutes);
+        }
+    }
+
+    private double[] hours(Long storeId) {
+        return corrections.computeIfAbsent(storeId, id -> new double[HOURS_PER_WEEK]);
+    }
+
+    // 월요일 0시 = 0 ~ 일요일 23시 = 167
+    private static int hourOfWeek(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.delivery.eta.service;
+
+import com.example.delivery.eta.dto.EtaChange;
+import com.example.delivery.eta.repository.EtaHistoryBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ETA 변경 이력(EtaHistory)을 백그라운드에서 JDBC 배치로 저장하는 기록기
+ *
+ * - 호출 스레드는 크기가 정해진 버퍼에 넣기만 하므로, ETA 변경 요청 경로에 동기 INSERT가 생기지 않음
+ * - 기록 스레드 하나가 버퍼에서 최대 smarteta.eta.history.batch-size 건씩 꺼내 한 번의 배치로 저장
+ * - 버퍼가 가득 차면 smarteta.eta.history.offer-timeout-ms 까지 기다리고(역압), 그래도 자리가 없으면 버리고 집계함
+ *   (여러 건을 한 번에 넣을 때도 기다리는 시간은 묶음 전체에 한 번만 주어짐)
+ * - 종료 시 새 기록을 받지 않고, 버퍼에 남은 이력을 모두 저장한 뒤 끝남
+ *
+ * 메트릭: smarteta.eta.history.queue.size, smarteta.eta.history.written,
+ *        smarteta.eta.history.dropped (cause=buffer_full|write_error|shutdown)
+ */
+@Slf4j
+@Component
+public class EtaHistoryWriter implements DisposableBean {
+
+    private final EtaHistoryBulkRepository historyBulkRepository;
+    private final BlockingQueue<EtaChange> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final Thread writerThread;
+
+    private final Counter written;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteError;
+    private final Counter droppedShutdown;
+
+    private volatile boolean running = true;
+
+    public EtaHistoryWriter(EtaHistoryBulkRepository historyBulkRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${smarteta.eta.history.buffer-size:10000}") int bufferSize,
+                            @Value("${smarteta.eta.history.batch-size:500}") int batchSize,
+                            @Value("${smarteta.eta.history.flush-interval-ms:200}") long flushIntervalMs,
+                            @Value("${smarteta.eta.history.offer-timeout-ms:50}") long offerTimeoutMs,
+                            @Value("${smarteta.eta.history.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.historyBulkRepository = historyBulkRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("smarteta.eta.history.queue.size", buffer, BlockingQueue::size)
+                .description("저장 대기 중인 ETA 변경 이력 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("smarteta.eta.history.written")
+                .description("저장된 ETA 변경 이력 수")
+                .register(meterRegistry);
+        this.droppedBufferFull = dropped(meterRegistry, "buffer_full");
+        this.droppedWriteError = dropped(meterRegistry, "write_error");
+        this.droppedShutdown = dropped(meterRegistry, "shutdown");
+
+        this.writerThread = Thread.ofPlatform().name("eta-history-writer").daemon().start(this::run);
+    }
+
+    /**
+     * ETA 변경 이력을 저장 버퍼에 넣는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 넣음 (롤백된 변경은 기록하지 않음)
+     * @param change ETA 변경
+     */
+    public void record(EtaChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAll(List.of(change));
+                }
+            });
+            return;
+        }
+        enqueueAll(List.of(change));
+    }
+
+    /**
+     * 여러 ETA 변경 이력을 저장 버퍼에 넣는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 넣음
+     * @param changes ETA 변경 목록
+     */
+    public void recordAll(List<EtaChange> changes) {
+        if (changes.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAll(changes);
+                }
+            });
+            return;
+        }
+        enqueueAll(changes);
+    }
+
+    /**
+     * 이력들을 버퍼에 넣는 메서드
+     * 버퍼가 가득 차면 묶음 전체에 대해 offer-timeout-ms 를 한 번만 기다림 (묶음 크기만큼 호출 스레드가 오래 막히지 않도록)
+     * 기다려도 자리가 나지 않으면 남은 이력은 기다리지 않고 넣어 보고, 들어가지 않은 이력은 버리고 집계함
+     */
+    private void enqueueAll(List<EtaChange> changes) {
+        if (!running) {
+            droppedShutdown.increment(changes.size());
+            log.warn("종료 중이라 ETA 변경 이력을 버립니다. 건수={}", changes.size());
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        int dropped = 0;
+        for (EtaChange change : changes) {
+            if (!offer(change, Math.max(0, deadline - System.nanoTime()))) dropped++;
+        }
+        if (dropped > 0) {
+            droppedBufferFull.increment(dropped);
+            log.warn("ETA 변경 이력 버퍼가 가득 차 이력을 버립니다. 건수={}/{}", dropped, changes.size());
+        }
+    }
+
+    private boolean offer(EtaChange change, long timeoutNanos) {
+        if (timeoutNanos == 0) return buffer.offer(change);
+        try {
+            return buffer.offer(change, timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return buffer.offer(change);
+        }
+    }
+
+    // 버퍼에서 배치 단위로 꺼내 저장 (종료 신호 후에도 버퍼가 빌 때까지 계속)
+    private void run() {
+        List<EtaChange> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                EtaChange first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 종료 대기 시간이 지나 중단됨
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<EtaChange> batch) {
+        try {
+            historyBulkRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            droppedWriteError.increment(batch.size());
+            log.error("ETA 변경 이력 저장 실패 - {}건", batch.size(), e);
+        }
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("smarteta.eta.history.dropped")
+                .description("저장하지 못하고 버린 ETA 변경 이력 수")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 기록을 막고, 버퍼에 남은 이력을 저장할 때까지 smarteta.eta.history.shutdown-timeout-ms 만큼 기다림
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writerThread.join(shutdownTimeoutMs);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            log.warn("ETA 변경 이력 기록기 종료 대기 시간 초과 - 남은 이력: {}건", buffer.size());
+        }
+    }
+}
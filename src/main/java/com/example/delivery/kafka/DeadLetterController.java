@@ -0,0 +1,43 @@
+package com.example.delivery.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/delivery-status/dlt")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private static final int MAX_REPLAY_RECORDS = 10000;
+
+    private final DeadLetterReplayService replayService;
+
+    /**
+     * 아직 재처리하지 않은 DLT 이벤트 수를 조회하는 API
+     * @return DLT 상태
+     */
+    @GetMapping
+    public ResponseEntity<DeadLetterStatus> getStatus() {
+        return ResponseEntity.ok(replayService.status());
+    }
+
+    /**
+     * DLT 이벤트를 배치 단위로 메인 토픽에 다시 보내는 API
+     * 원인을 고친 뒤 remaining이 0이 될 때까지 반복 호출
+     * @param maxRecords 한 번에 재처리할 최대 이벤트 수 (기본 500, 1~MAX_REPLAY_RECORDS)
+     * @return 재처리한 이벤트 수와 남은 이벤트 수 (다른 재처리가 진행 중이면 409, 범위를 벗어난 maxRecords는 400)
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replay(@RequestParam(defaultValue = "500") int maxRecords) {
+        if (maxRecords < 1 || maxRecords > MAX_REPLAY_RECORDS) return ResponseEntity.badRequest().build();
+        return replayService.replay(maxRecords)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.delivery.kafka;
+
+/**
+ * DLT 재처리 결과
+ * @param replayed 메인 토픽으로 다시 보낸 이벤트 수
+ * @param remaining 아직 재처리하지 않은 이벤트 수
+ */
+public record DeadLetterReplayResponse(int replayed, long remaining) {
+}
@@ -0,0 +1,176 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DLT(delivery-status-dlt)에 쌓인 배달 완료 이벤트를 메인 토픽으로 다시 흘려보내는 서비스
+ *
+ * - 전용 컨슈머 그룹(smarteta-dlt-replay)의 커밋 위치부터 최대 maxRecords 건을 읽어 delivery-status로 다시 전송
+ * - 전송이 모두 확인된 뒤에만 오프셋을 커밋하므로, 중간에 실패하면 같은 구간을 다시 흘려보냄
+ *   (이미 반영된 주문은 처리 표시로 걸러지므로 중복 반영되지 않음)
+ * - 한 번에 하나의 재처리만 실행 (진행 중이면 기다리지 않고 바로 거절)
+ *
+ * 메트릭: smarteta.delivery.dlt.replayed
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    private static final String REPLAY_GROUP = "smarteta-dlt-replay";
+
+    private final ConsumerFactory<String, DeliveryCompletedEvent> consumerFactory;
+    private final DeliveryEventProducer deliveryEventProducer;
+    private final long pollTimeoutMs;
+    private final long sendTimeoutMs;
+    private final Counter replayed;
+
+    // 재처리 중 Kafka I/O를 기다리므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    public DeadLetterReplayService(ConsumerFactory<String, DeliveryCompletedEvent> consumerFactory,
+                                   DeliveryEventProducer deliveryEventProducer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${smarteta.kafka.delivery-status.dlt.poll-timeout-ms:1000}") long pollTimeoutMs,
+                                   @Value("${smarteta.kafka.delivery-status.retry.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.consumerFactory = consumerFactory;
+        this.deliveryEventProducer = deliveryEventProducer;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.replayed = Counter.builder("smarteta.delivery.dlt.replayed")
+                .description("DLT에서 메인 토픽으로 다시 보낸 배달 완료 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아직 재처리하지 않은 DLT 이벤트 수를 조회하는 메서드
+     * @return DLT 상태
+     */
+    public DeadLetterStatus status() {
+        try (Consumer<String, DeliveryCompletedEvent> consumer = createConsumer(1)) {
+            return new DeadLetterStatus(DeliveryRetryPublisher.DLT_TOPIC, pending(consumer, partitions(consumer)));
+        }
+    }
+
+    /**
+     * DLT 이벤트를 최대 maxRecords 건 메인 토픽으로 다시 보내는 메서드
+     * @param maxRecords 최대 재처리 수
+     * @return 재처리 결과 (다른 재처리가 진행 중이면 빈 값)
+     */
+    public Optional<DeadLetterReplayResponse> replay(int maxRecords) {
+        if (!replayLock.tryLock()) return Optional.empty();
+        try {
+            return Optional.of(replayLocked(maxRecords));
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private DeadLetterReplayResponse replayLocked(int maxRecords) {
+        try (Consumer<String, DeliveryCompletedEvent> consumer = createConsumer(maxRecords)) {
+            List<TopicPartition> partitions = partitions(consumer);
+            if (partitions.isEmpty()) return new DeadLetterReplayResponse(0, 0);
+            consumer.assign(partitions);
+
+            // 1. 커밋 위치부터 최대 maxRecords 건 읽기 (파티션별로 앞에서부터 연속된 구간만 취함)
+            List<ConsumerRecord<String, DeliveryCompletedEvent>> taken = new ArrayList<>();
+            while (taken.size() < maxRecords) {
+                ConsumerRecords<String, DeliveryCompletedEvent> polled = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+                if (polled.isEmpty()) break;
+                for (ConsumerRecord<String, DeliveryCompletedEvent> record : polled) {
+                    if (taken.size() >= maxRecords) break;
+                    taken.add(record);
+                }
+            }
+
+            // 2. 메인 토픽으로 다시 전송
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            List<CompletableFuture<?>> futures = new ArrayList<>(taken.size());
+            for (ConsumerRecord<String, DeliveryCompletedEvent> record : taken) {
+                offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                if (record.value() == null) continue;
+                futures.add(deliveryEventProducer.send(DeliveryRetryPublisher.MAIN_TOPIC, record.value()));
+            }
+            for (CompletableFuture<?> future : futures) {
+                await(future);
+            }
+
+            // 3. 전송이 모두 끝난 구간만 커밋
+            if (!offsets.isEmpty()) consumer.commitSync(offsets);
+            replayed.increment(futures.size());
+
+            long remaining = pending(consumer, partitions);
+            log.info("DLT 재처리 완료 - 재전송: {}건, 남은 이벤트: {}건", futures.size(), remaining);
+            return new DeadLetterReplayResponse(futures.size(), remaining);
+        }
+    }
+
+    private Consumer<String, DeliveryCompletedEvent> createConsumer(int maxPollRecords) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.max(1, maxPollRecords)));
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return consumerFactory.createConsumer(REPLAY_GROUP, null, null, overrides);
+    }
+
+    private static List<TopicPartition> partitions(Consumer<?, ?> consumer) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        List<PartitionInfo> infos = consumer.partitionsFor(DeliveryRetryPublisher.DLT_TOPIC);
+        if (infos == null) return partitions;
+        for (PartitionInfo info : infos) {
+            partitions.add(new TopicPartition(info.topic(), info.partition()));
+        }
+        return partitions;
+    }
+
+    // 파티션별 (끝 오프셋 - 재처리 그룹 커밋 위치), 커밋이 없으면 시작 오프셋부터
+    private static long pending(Consumer<?, ?> consumer, List<TopicPartition> partitions) {
+        if (partitions.isEmpty()) return 0;
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> begin = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+
+        long pending = 0;
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            long position = Math.max(begin.get(partition), offset == null ? 0 : offset.offset());
+            pending += Math.max(0, end.get(partition) - position);
+        }
+        return pending;
+    }
+
+    private void await(CompletableFuture<?> future) {
+        try {
+            future.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재전송 대기 중 인터럽트", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("DLT 재전송 실패 - 오프셋을 커밋하지 않았으므로 다시 실행하면 같은 구간부터 재처리함", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.delivery.kafka;
+
+/**
+ * DLT 상태
+ * @param topic DLT 토픽 이름
+ * @param pending 아직 재처리하지 않은 이벤트 수
+ */
+public record DeadLetterStatus(String topic, long pending) {
+}
@@ -0,0 +1,130 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.service.ActiveOrderIndex;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.stat.service.DeliveryDeduplicator;
+import com.example.delivery.stat.service.StoreDelaySummaryService;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "smarteta.kafka.delivery-status.batch.enabled", havingValue = "true")
+public class DeliveryCompletedBatchListener {
+
+    private final OrderRepository orderRepository;
+    private final StoreDelaySummaryService summaryService;
+    private final DeliveryPipelineMetrics metrics;
+    private final EtaCorrectionModel etaCorrectionModel;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final DeliveryDeduplicator deduplicator;
+    private final DeliveryRetryPublisher retryPublisher;
+
+    /**
+     * Kafka로부터 배달 완료 이벤트를 poll 단위로 한 번에 수신하고 처리하는 배치 리스너
+     * smarteta.kafka.delivery-status.batch.enabled=true 일 때 DeliveryCompletedListener 대신 사용됨
+     *
+     * - 토픽: delivery-status
+     * - 그룹 ID: smarteta-group
+     * - 배치 크기: smarteta.kafka.delivery-status.batch.max-records (max.poll.records)
+     * - 최대 대기 시간: smarteta.kafka.delivery-status.batch.max-wait-ms (fetch.max.wait.ms)
+     *
+     * 처리 로직:
+     * 0. 이미 처리된 주문과 배치 안의 중복을 걸러냄 (처리 표시를 같은 트랜잭션에 기록)
+     * 1. 배치에 포함된 모든 주문을 매장 정보와 함께 한 번에 조회
+     * 2. 각 Order의 배달 완료 시간(deliveredAt)을 업데이트
+     * 3. 매장별 변화량으로 모아 StoreDelaySummary를 매장당 한 번만 갱신
+     * 4. ETA 오차를 매장별 ETA 보정 모델에 반영 (커밋 후)
+     * 5. 진행 중 주문 인덱스에서 제거 (커밋 후)
+     *
+     * 처리에 실패하면 배치 전체를 롤백하고 모든 이벤트를 첫 번째 재시도 토픽으로 넘김
+     * (재시도 토픽에서는 한 건씩 처리되므로 원인이 된 이벤트만 격리되고, 나머지는 처리 표시로 중복 없이 반영됨)
+     */
+    @KafkaListener(
+            topics = "delivery-status",
+            groupId = "smarteta-group",
+            concurrency = "${smarteta.kafka.delivery-status.concurrency:3}",
+            batch = "true",
+            properties = {
+                    "max.poll.records=${smarteta.kafka.delivery-status.batch.max-records:500}",
+                    "fetch.max.wait.ms=${smarteta.kafka.delivery-status.batch.max-wait-ms:100}"
+            })
+    @Transactional
+    public void listen(List<DeliveryCompletedEvent> events) {
+        log.debug("배달 완료 메시지 배치 수신: {}건", events.size());
+        Timer.Sample total = metrics.start();
+
+        try {
+            // 0. 이미 처리된 주문, 배치 안의 중복 제외
+            List<Long> eventOrderIds = new ArrayList<>(events.size());
+            for (DeliveryCompletedEvent event : events) {
+                eventOrderIds.add(event.orderId());
+            }
+            Set<Long> orderIds = deduplicator.claimAll(eventOrderIds);
+            if (orderIds.isEmpty()) {
+                log.debug("배치의 모든 배달 완료 이벤트가 이미 처리됨: {}건", events.size());
+                return;
+            }
+
+            // 1. 배치 내 주문 일괄 조회
+            Timer.Sample lookup = metrics.start();
+            Map<Long, Order> ordersById = new HashMap<>();
+            for (Order order : orderRepository.findAllWithStoreByIdIn(orderIds)) {
+                ordersById.put(order.getId(), order);
+            }
+            metrics.stopStage(lookup, DeliveryPipelineMetrics.BATCH, "order_lookup");
+
+            // 2. 배달 완료 시간 반영
+            List<Order> completedOrders = new ArrayList<>(events.size());
+            for (DeliveryCompletedEvent event : events) {
+                // 같은 주문이 배치에 여러 번 있으면 처음 것만 반영
+                if (!orderIds.remove(event.orderId())) continue;
+
+                Order order = ordersById.get(event.orderId());
+                if (order == null) {
+                    log.warn("주문 ID={} 에 해당하는 주문을 찾을 수 없습니다.", event.orderId());
+                    continue;
+                }
+
+                order.completeDelivery(event.deliveredAt());
+                completedOrders.add(order);
+            }
+
+            // 3. 매장별 통계 갱신
+            Timer.Sample update = metrics.start();
+            summaryService.processCompletedOrders(completedOrders);
+            metrics.stopStage(update, DeliveryPipelineMetrics.BATCH, "summary_update");
+
+            etaCorrectionModel.observe(completedOrders);
+            activeOrderIndex.removeAll(completedOrders.stream().map(Order::getId).toList());
+            for (Order order : completedOrders) {
+                metrics.recordCompletion(order);
+            }
+            metrics.timeCommit(DeliveryPipelineMetrics.BATCH);
+            log.debug("배치 처리 완료 → 수신: {}건, 반영: {}건", events.size(), completedOrders.size());
+        } catch (Exception e) {
+            log.error(" Kafka 배치 메시지 처리 중 예외 발생 - 배치 전체를 재시도 토픽으로 넘김: {}건", events.size(), e);
+            // 처리 표시도 함께 되돌리고, 재시도 토픽에서 한 건씩 다시 처리
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            retryPublisher.forwardAll(events, e);
+        } finally {
+            metrics.stopProcess(total, DeliveryPipelineMetrics.BATCH);
+        }
+    }
+}
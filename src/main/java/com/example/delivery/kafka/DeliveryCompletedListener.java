@@ -1,25 +1,22 @@
 package com.example.delivery.kafka;
 
-import com.example.delivery.order.domain.Order;
 import com.example.delivery.order.dto.DeliveryCompletedEvent;
-import com.example.delivery.order.repository.OrderRepository;
-import com.example.delivery.stat.service.StoreDelaySummaryService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
-
-import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "smarteta.kafka.delivery-status.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class DeliveryCompletedListener {
 
-    private final OrderRepository orderRepository;
-    private final StoreDelaySummaryService summaryService;
+    private final DeliveryCompletionHandler completionHandler;
+    private final DeliveryRetryPublisher retryPublisher;
+    private final DeliveryPipelineMetrics metrics;
 
     /**
      * Kafka로부터 배달 완료 이벤트를 수신하고 처리하는 리스너
@@ -28,37 +25,23 @@ public class DeliveryCompletedListener {
      * - 그룹 ID: smarteta-group
      * - 메시지 형식: DeliveryCompletedEvent (주문 ID, 배달 완료 시간 포함)
      *
-     * 처리 로직:
-     * 1. 전달받은 주문 ID로 Order를 조회
-     * 2. 해당 Order의 배달 완료 시간(deliveredAt)을 업데이트
-     * 3. StoreDelaySummaryService를 통해 지연 통계를 갱신
+     * 처리 로직은 DeliveryCompletionHandler 참고 (한 건이 하나의 트랜잭션)
+     * 처리에 실패한 이벤트는 첫 번째 재시도 토픽으로 넘기고 바로 다음 메시지를 처리함
+     * (실패한 이벤트 때문에 같은 파티션의 다른 매장 이벤트가 밀리지 않도록)
      */
-    @KafkaListener(topics = "delivery-status", groupId = "smarteta-group")
-    @Transactional
+    @KafkaListener(topics = "delivery-status", groupId = "smarteta-group",
+            concurrency = "${smarteta.kafka.delivery-status.concurrency:3}")
     public void listen(DeliveryCompletedEvent event) {
-        log.info("📦 Kafka 메시지 수신: orderId={}, deliveredAt={}", event.orderId(), event.deliveredAt());
-        StopWatch stopWatch = new StopWatch("배달 완료 처리 전체 시간");
-        stopWatch.start("전체 처리");
+        log.debug("배달 완료 메시지 수신: {}", event);
+        Timer.Sample total = metrics.start();
 
         try {
-            log.info("배달 완료 메시지 수신: {}", event);
-
-            Optional<Order> optionalOrder = orderRepository.findById(event.orderId());
-            if (optionalOrder.isEmpty()) {
-                log.warn("주문 ID={} 에 해당하는 주문을 찾을 수 없습니다.", event.orderId());
-                return;
-            }
-
-            Order order = optionalOrder.get();
-            order.completeDelivery(event.deliveredAt());
-            summaryService.processCompletedOrder(order);
-
-            log.info("주문 처리 완료 → 주문 ID: {}", order.getId());
+            completionHandler.handle(event, DeliveryPipelineMetrics.SINGLE);
         } catch (Exception e){
-            log.error(" Kafka 메시지 처리 중 예외 발생", e);
+            log.error(" Kafka 메시지 처리 중 예외 발생 - 재시도 토픽으로 넘김, 주문 ID: {}", event.orderId(), e);
+            retryPublisher.forward(event, 0, e);
         } finally {
-            stopWatch.stop();
-            log.info("[성능측정] Kafka 이벤트 전체 처리 시간: {}ms", stopWatch.getTotalTimeMillis());
+            metrics.stopProcess(total, DeliveryPipelineMetrics.SINGLE);
         }
     }
 }
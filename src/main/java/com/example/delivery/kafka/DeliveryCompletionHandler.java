@@ -0,0 +1,77 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.order.service.ActiveOrderIndex;
+import com.example.delivery.stat.service.DeliveryDeduplicator;
+import com.example.delivery.stat.service.StoreDelaySummaryService;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배달 완료 이벤트 한 건을 하나의 트랜잭션으로 처리하는 핸들러
+ * delivery-status 단건 리스너와 재시도 토픽 리스너가 함께 사용함
+ *
+ * 처리 로직:
+ * 0. 이미 처리된 주문이면 건너뜀 (재전달·재시도로 같은 주문이 두 번 반영되지 않도록 처리 표시를 같은 트랜잭션에 기록)
+ * 1. 전달받은 주문 ID로 Order를 조회
+ * 2. 해당 Order의 배달 완료 시간(deliveredAt)을 업데이트
+ * 3. StoreDelaySummaryService를 통해 지연 통계를 갱신
+ * 4. ETA 오차를 매장별 ETA 보정 모델에 반영 (커밋 후)
+ * 5. 진행 중 주문 인덱스에서 제거 (커밋 후)
+ *
+ * 처리 중 예외가 나면 트랜잭션 전체(처리 표시 포함)가 롤백되고 예외를 그대로 던짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryCompletionHandler {
+
+    private final OrderRepository orderRepository;
+    private final StoreDelaySummaryService summaryService;
+    private final DeliveryPipelineMetrics metrics;
+    private final EtaCorrectionModel etaCorrectionModel;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final DeliveryDeduplicator deduplicator;
+
+    /**
+     * @param event 배달 완료 이벤트
+     * @param mode 메트릭 mode 태그 (single 또는 retry)
+     */
+    @Transactional
+    public void handle(DeliveryCompletedEvent event, String mode) {
+        if (!deduplicator.claim(event.orderId())) {
+            log.debug("이미 처리된 배달 완료 이벤트 → 주문 ID: {}", event.orderId());
+            return;
+        }
+
+        Timer.Sample lookup = metrics.start();
+        Optional<Order> optionalOrder = orderRepository.findById(event.orderId());
+        metrics.stopStage(lookup, mode, "order_lookup");
+        if (optionalOrder.isEmpty()) {
+            log.warn("주문 ID={} 에 해당하는 주문을 찾을 수 없습니다.", event.orderId());
+            return;
+        }
+
+        Order order = optionalOrder.get();
+        order.completeDelivery(event.deliveredAt());
+
+        Timer.Sample update = metrics.start();
+        summaryService.processCompletedOrder(order);
+        metrics.stopStage(update, mode, "summary_update");
+
+        etaCorrectionModel.observe(List.of(order));
+        activeOrderIndex.remove(order.getId());
+        metrics.recordCompletion(order);
+        metrics.timeCommit(mode);
+        log.debug("주문 처리 완료 → 주문 ID: {}", order.getId());
+    }
+}
@@ -4,31 +4,32 @@ import com.example.delivery.order.dto.DeliveryCompletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeliveryEventProducer {
 
-    private final KafkaTemplate<String, com.example.delivery.order.dto.DeliveryCompletedEvent> kafkaTemplate;
-
-    public void send(String topic, DeliveryCompletedEvent event) {
-        kafkaTemplate.send(topic, event);
-        log.info("보낸 Kafka 메시지 → {}", event);
-    }
+    private final KafkaTemplate<String, DeliveryCompletedEvent> kafkaTemplate;
+    private final KafkaSendMetrics sendMetrics;
 
     /**
-     * 배달 완료 정보로부터 이벤트 객체를 생성하고 Kafka에 전송 하는 메서드
+     * 배달 완료 이벤트를 Kafka에 비동기로 전송하는 메서드
+     * 같은 매장의 이벤트가 같은 파티션에서 순서대로 처리되도록 매장 ID를 키로 사용
+     * (매장 ID가 없는 이벤트는 주문 ID를 키로 사용)
      *
-     * @param topic       Kafka 토픽 이름
-     * @param orderId     주문 ID
-     * @param deliveredAt 실제 배달 완료 시간
+     * @param topic Kafka 토픽 이름
+     * @param event 배달 완료 이벤트
+     * @return 전송 결과
      */
-    public void send(String topic, Long orderId, LocalDateTime deliveredAt) {
-        DeliveryCompletedEvent event = new DeliveryCompletedEvent(orderId, deliveredAt);
-        send(topic, event);
+    public CompletableFuture<SendResult<String, DeliveryCompletedEvent>> send(String topic, DeliveryCompletedEvent event) {
+        String key = String.valueOf(event.storeId() != null ? event.storeId() : event.orderId());
+        long start = System.nanoTime();
+        return kafkaTemplate.send(topic, key, event)
+                .whenComplete((result, ex) -> sendMetrics.record(topic, key, start, ex));
     }
 }
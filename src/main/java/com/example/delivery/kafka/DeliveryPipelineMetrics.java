@@ -0,0 +1,113 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.order.domain.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 완료 이벤트 처리 파이프라인의 메트릭
+ *
+ * - smarteta.delivery.process (mode): 리스너 한 번의 전체 처리 시간
+ * - smarteta.delivery.stage (mode, stage=order_lookup|summary_update|commit): 단계별 처리 시간
+ * - smarteta.orders.completed (store, result=delayed|on_time): 매장별 지연/정시 배달 완료 건수
+ *   (기본은 store=all 로 합산, smarteta.metrics.per-store-tags=true 이면 매장 ID별로 나눔 - 매장 수만큼 시계열이 생김)
+ *
+ * 파티션별 컨슈머 lag(kafka.consumer.fetch.manager.records.lag)과 프로듀서 클라이언트 메트릭은
+ * Spring Boot가 Kafka 클라이언트에 Micrometer 리스너를 붙여 자동으로 노출함
+ */
+@Component
+public class DeliveryPipelineMetrics {
+
+    public static final String SINGLE = "single";
+    public static final String BATCH = "batch";
+    public static final String RETRY = "retry";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean perStoreTags;
+
+    public DeliveryPipelineMetrics(MeterRegistry meterRegistry,
+                                   @Value("${smarteta.metrics.per-store-tags:false}") boolean perStoreTags) {
+        this.meterRegistry = meterRegistry;
+        this.perStoreTags = perStoreTags;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 리스너 전체 처리 시간을 기록하는 메서드
+     * @param sample start()로 시작한 측정
+     * @param mode single, batch 또는 retry
+     */
+    public void stopProcess(Timer.Sample sample, String mode) {
+        sample.stop(Timer.builder("smarteta.delivery.process")
+                .description("배달 완료 이벤트 처리 시간")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * 처리 단계 하나의 시간을 기록하는 메서드
+     * @param sample start()로 시작한 측정
+     * @param mode single, batch 또는 retry
+     * @param stage 단계 이름
+     */
+    public void stopStage(Timer.Sample sample, String mode, String stage) {
+        sample.stop(stageTimer(mode, stage));
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋(flush 포함) 시간을 commit 단계로 기록하도록 등록하는 메서드
+     * @param mode single, batch 또는 retry
+     */
+    public void timeCommit(String mode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (start != 0) {
+                    stageTimer(mode, "commit").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    /**
+     * 배달 완료된 주문의 지연/정시 여부를 매장별로 집계하는 메서드
+     * @param order 배달 완료된 주문
+     */
+    public void recordCompletion(Order order) {
+        Counter.builder("smarteta.orders.completed")
+                .description("배달 완료 주문 수")
+                .tag("store", perStoreTags ? String.valueOf(order.getStore().getId()) : "all")
+                .tag("result", order.isDelayed() ? "delayed" : "on_time")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer stageTimer(String mode, String stage) {
+        return Timer.builder("smarteta.delivery.stage")
+                .description("배달 완료 이벤트 처리 단계별 시간")
+                .tag("mode", mode)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
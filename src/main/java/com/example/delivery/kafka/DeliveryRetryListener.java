@@ -0,0 +1,114 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListenerConfigurer;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.config.SimpleKafkaListenerEndpoint;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * 재시도 토픽(delivery-status-retry-N)의 배달 완료 이벤트를 처리하는 리스너
+ * 단건 / 배치 모드와 관계없이 항상 동작함
+ *
+ * - 재시도 단계마다 별도의 리스너 컨테이너(delivery-status-retry-N)를 등록하므로,
+ *   긴 대기 시간의 단계가 짧은 대기 시간의 단계를 막지 않음
+ * - 헤더의 처리 예정 시각까지 기다린 뒤 DeliveryCompletionHandler로 한 건씩 처리
+ *   (한 재시도 토픽의 대기 시간은 모두 같으므로 예정 시각은 들어온 순서대로 늘어남 → 앞 메시지만 기다리면 됨)
+ * - 기다리는 동안 막히는 것은 해당 단계의 재시도 토픽 파티션뿐이고, 메인 토픽은 영향을 받지 않음
+ * - 또 실패하면 다음 재시도 토픽으로, 마지막 단계였으면 DLT로 넘김
+ *
+ * smarteta.kafka.delivery-status.retry.max-delay-ms 는 컨슈머의 max.poll.interval.ms(기본 5분)보다 작아야 함
+ *
+ * 메트릭: smarteta.delivery.retry.recovered (재시도로 처리에 성공한 이벤트 수)
+ */
+@Slf4j
+@Component
+public class DeliveryRetryListener implements KafkaListenerConfigurer {
+
+    private static final String GROUP_ID = "smarteta-group";
+
+    private final DeliveryCompletionHandler completionHandler;
+    private final DeliveryRetryPublisher retryPublisher;
+    private final DeliveryPipelineMetrics metrics;
+    private final Counter recovered;
+    private final int concurrency;
+    private final int maxPollRecords;
+
+    public DeliveryRetryListener(DeliveryCompletionHandler completionHandler,
+                                 DeliveryRetryPublisher retryPublisher,
+                                 DeliveryPipelineMetrics metrics,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${smarteta.kafka.delivery-status.concurrency:3}") int concurrency,
+                                 @Value("${smarteta.kafka.delivery-status.retry.max-poll-records:50}") int maxPollRecords) {
+        this.completionHandler = completionHandler;
+        this.retryPublisher = retryPublisher;
+        this.metrics = metrics;
+        this.concurrency = concurrency;
+        this.maxPollRecords = maxPollRecords;
+        this.recovered = Counter.builder("smarteta.delivery.retry.recovered")
+                .description("재시도 토픽에서 처리에 성공한 배달 완료 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 단계마다 리스너 컨테이너를 하나씩 등록하는 메서드 (기본 컨테이너 팩토리 사용)
+     */
+    @Override
+    public void configureKafkaListeners(KafkaListenerEndpointRegistrar registrar) {
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+
+        for (String topic : retryPublisher.retryTopics()) {
+            SimpleKafkaListenerEndpoint<String, DeliveryCompletedEvent> endpoint = new SimpleKafkaListenerEndpoint<>();
+            endpoint.setId(topic);
+            endpoint.setGroupId(GROUP_ID);
+            endpoint.setTopics(topic);
+            endpoint.setConcurrency(concurrency);
+            endpoint.setConsumerProperties(consumerProperties);
+            endpoint.setMessageListener((MessageListener<String, DeliveryCompletedEvent>) this::listen);
+            registrar.registerEndpoint(endpoint);
+        }
+    }
+
+    /**
+     * 재시도 토픽의 이벤트 한 건을 예정 시각에 처리하는 메서드
+     * @param record 재시도 토픽 메시지
+     */
+    public void listen(ConsumerRecord<String, DeliveryCompletedEvent> record) {
+        int tier = retryPublisher.tierOf(record.topic());
+        long dueAt = DeliveryRetryPublisher.longHeader(record.headers().lastHeader(DeliveryRetryPublisher.DUE_AT_HEADER), 0);
+        long wait = dueAt - System.currentTimeMillis();
+        if (wait > 0) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                // 컨테이너 종료 중이면 처리하지 않고 넘김 (오프셋이 커밋되지 않으므로 다음 시작 때 다시 처리됨)
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("재시도 대기 중 인터럽트", e);
+            }
+        }
+
+        DeliveryCompletedEvent event = record.value();
+        Timer.Sample total = metrics.start();
+        try {
+            completionHandler.handle(event, DeliveryPipelineMetrics.RETRY);
+            recovered.increment();
+            log.info("배달 완료 이벤트 재시도 성공 - 단계: {}, 주문 ID: {}", tier, event.orderId());
+        } catch (Exception e) {
+            log.warn("배달 완료 이벤트 재시도 실패 - 단계: {}, 주문 ID: {}", tier, event.orderId(), e);
+            retryPublisher.forward(event, tier + 1, e);
+        } finally {
+            metrics.stopProcess(total, DeliveryPipelineMetrics.RETRY);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처리에 실패한 배달 완료 이벤트를 재시도 토픽 / DLT로 넘기는 발행기
+ *
+ * - 재시도 토픽: delivery-status-retry-0 ~ delivery-status-retry-{attempts-1}
+ *   n번째 토픽은 initial-delay-ms * multiplier^n (최대 max-delay-ms) 뒤에 처리됨 (지수 백오프)
+ * - 마지막 재시도까지 실패하면 delivery-status-dlt 로 보냄 (DeadLetterReplayService로 다시 흘려보낼 수 있음)
+ * - 처리 예정 시각, 시도 횟수, 마지막 예외를 헤더로 함께 보냄
+ * - 전송 결과를 기다리고, 실패하면 예외를 던져 원래 메시지가 컨테이너에서 다시 처리되도록 함 (이벤트 유실 방지)
+ *
+ * 메트릭: smarteta.delivery.retry.forwarded (tier), smarteta.delivery.dead-lettered
+ */
+@Slf4j
+@Component
+public class DeliveryRetryPublisher {
+
+    public static final String MAIN_TOPIC = "delivery-status";
+    public static final String DLT_TOPIC = MAIN_TOPIC + "-dlt";
+
+    public static final String DUE_AT_HEADER = "smarteta-retry-due-at";
+    public static final String ATTEMPT_HEADER = "smarteta-retry-attempt";
+    public static final String EXCEPTION_HEADER = "smarteta-retry-exception";
+
+    private final KafkaTemplate<String, DeliveryCompletedEvent> kafkaTemplate;
+    private final long[] delaysMs;
+    private final long sendTimeoutMs;
+
+    private final Counter[] forwarded;
+    private final Counter deadLettered;
+
+    public DeliveryRetryPublisher(KafkaTemplate<String, DeliveryCompletedEvent> kafkaTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${smarteta.kafka.delivery-status.retry.attempts:3}") int attempts,
+                                  @Value("${smarteta.kafka.delivery-status.retry.initial-delay-ms:1000}") long initialDelayMs,
+                                  @Value("${smarteta.kafka.delivery-status.retry.multiplier:5}") double multiplier,
+                                  @Value("${smarteta.kafka.delivery-status.retry.max-delay-ms:60000}") long maxDelayMs,
+                                  @Value("${smarteta.kafka.delivery-status.retry.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendTimeoutMs = sendTimeoutMs;
+
+        this.delaysMs = new long[attempts];
+        this.forwarded = new Counter[attempts];
+        for (int tier = 0; tier < attempts; tier++) {
+            delaysMs[tier] = Math.min(maxDelayMs, (long) (initialDelayMs * Math.pow(multiplier, tier)));
+            forwarded[tier] = Counter.builder("smarteta.delivery.retry.forwarded")
+                    .description("재시도 토픽으로 넘긴 배달 완료 이벤트 수")
+                    .tag("tier", String.valueOf(tier))
+                    .register(meterRegistry);
+        }
+        this.deadLettered = Counter.builder("smarteta.delivery.dead-lettered")
+                .description("재시도를 모두 실패해 DLT로 보낸 배달 완료 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public static String retryTopic(int tier) {
+        return MAIN_TOPIC + "-retry-" + tier;
+    }
+
+    /**
+     * 재시도 토픽 이름 목록 (재시도 리스너 구독, 토픽 생성에 사용)
+     */
+    public String[] retryTopics() {
+        String[] topics = new String[delaysMs.length];
+        for (int tier = 0; tier < delaysMs.length; tier++) {
+            topics[tier] = retryTopic(tier);
+        }
+        return topics;
+    }
+
+    /**
+     * 재시도 토픽 이름에서 단계 번호를 구하는 메서드
+     * @param topic 재시도 토픽 이름
+     * @return 단계 번호 (0부터)
+     */
+    public int tierOf(String topic) {
+        return Integer.parseInt(topic.substring(topic.lastIndexOf('-') + 1));
+    }
+
+    /**
+     * 실패한 이벤트를 다음 재시도 단계로 넘기는 메서드 (단계가 남지 않았으면 DLT로 보냄)
+     * @param event 배달 완료 이벤트
+     * @param tier 넘길 재시도 단계 (메인 토픽에서 실패했으면 0)
+     * @param cause 실패 원인
+     */
+    public void forward(DeliveryCompletedEvent event, int tier, Exception cause) {
+        await(send(event, tier, cause));
+    }
+
+    /**
+     * 실패한 배치의 이벤트를 모두 첫 번째 재시도 단계로 넘기는 메서드
+     * 재시도 토픽에서는 한 건씩 처리되므로 실패 원인이 된 이벤트만 결국 DLT로 감
+     * @param events 배달 완료 이벤트 목록
+     * @param cause 실패 원인
+     */
+    public void forwardAll(List<DeliveryCompletedEvent> events, Exception cause) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (DeliveryCompletedEvent event : events) {
+            futures.add(send(event, 0, cause));
+        }
+        for (CompletableFuture<?> future : futures) {
+            await(future);
+        }
+    }
+
+    private CompletableFuture<?> send(DeliveryCompletedEvent event, int tier, Exception cause) {
+        boolean dead = tier >= delaysMs.length;
+        String topic = dead ? DLT_TOPIC : retryTopic(tier);
+        // 메인 토픽과 같은 키 (같은 매장의 이벤트는 같은 파티션)
+        String key = String.valueOf(event.storeId() != null ? event.storeId() : event.orderId());
+
+        ProducerRecord<String, DeliveryCompletedEvent> record = new ProducerRecord<>(topic, key, event);
+        record.headers().add(ATTEMPT_HEADER, longBytes(tier + 1));
+        record.headers().add(EXCEPTION_HEADER, describe(cause).getBytes(StandardCharsets.UTF_8));
+        if (dead) {
+            deadLettered.increment();
+            log.warn("배달 완료 이벤트 재시도 모두 실패 - DLT로 보냄, 주문 ID: {}", event.orderId());
+        } else {
+            record.headers().add(DUE_AT_HEADER, longBytes(System.currentTimeMillis() + delaysMs[tier]));
+            forwarded[tier].increment();
+        }
+        return kafkaTemplate.send(record);
+    }
+
+    private void await(CompletableFuture<?> future) {
+        try {
+            future.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 전송 대기 중 인터럽트", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("재시도 토픽 전송 실패", e);
+        }
+    }
+
+    /**
+     * long 헤더 값을 읽는 메서드
+     * @param header 헤더 (없으면 null)
+     * @param defaultValue 헤더가 없을 때 값
+     */
+    public static long longHeader(Header header, long defaultValue) {
+        return header == null ? defaultValue : ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    private static byte[] longBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private static String describe(Exception cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getName() + ": " + root.getMessage();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.delivery.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * delivery-status 재시도 토픽과 DLT를 시작 시 만들어 두는 설정 (이미 있으면 그대로 둠)
+ */
+@Configuration
+public class DeliveryRetryTopics {
+
+    @Bean
+    public KafkaAdmin.NewTopics deliveryRetryTopicDefinitions(
+            DeliveryRetryPublisher retryPublisher,
+            @Value("${smarteta.kafka.delivery-status.retry.partitions:3}") int partitions) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String topic : retryPublisher.retryTopics()) {
+            topics.add(TopicBuilder.name(topic).partitions(partitions).build());
+        }
+        topics.add(TopicBuilder.name(DeliveryRetryPublisher.DLT_TOPIC).partitions(partitions).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(new NewTopic[0]));
+    }
+}
@@ -1,18 +1,151 @@
 package com.example.delivery.kafka;
 
 import com.example.delivery.eta.dto.EtaUpdatedEvent;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class EtaEventProducer {
+public class EtaEventProducer implements DisposableBean {
 
-    private final KafkaTemplate<String, EtaUpdatedEvent> kafkaTemplate;
     private static final String TOPIC = "eta-updated";
 
-    public void sendEtaUpdatedEvent(EtaUpdatedEvent event) {
-        kafkaTemplate.send(TOPIC, event);
+    private final KafkaTemplate<String, EtaUpdatedEvent> kafkaTemplate;
+    private final KafkaSendMetrics sendMetrics;
+
+    // 같은 주문의 ETA 변경을 모아 마지막 것만 보낼지 여부
+    private final boolean coalesceEnabled;
+
+    // 주문별로 첫 변경을 받은 뒤 전송을 미루는 시간(ms), 아웃박스 중계기는 이 시간만큼 행 잠금을 더 쥐고 기다림
+    private final long coalesceWindowMs;
+
+    // 동시에 모아 둘 수 있는 최대 주문 수 (넘으면 모으지 않고 바로 전송)
+    private final int coalesceMaxPending;
+
+    // 전송을 기다리는 주문별 최신 ETA 변경
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher;
+    private final Counter suppressed;
+
+    public EtaEventProducer(KafkaTemplate<String, EtaUpdatedEvent> kafkaTemplate,
+                            KafkaSendMetrics sendMetrics,
+                            MeterRegistry meterRegistry,
+                            @Value("${smarteta.eta.coalesce.enabled:false}") boolean coalesceEnabled,
+                            @Value("${smarteta.eta.coalesce.window-ms:50}") long coalesceWindowMs,
+                            @Value("${smarteta.eta.coalesce.max-pending:10000}") int coalesceMaxPending) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendMetrics = sendMetrics;
+        this.coalesceEnabled = coalesceEnabled;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.coalesceMaxPending = coalesceMaxPending;
+        this.flusher = coalesceEnabled
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("eta-coalesce").daemon().factory())
+                : null;
+
+        this.suppressed = Counter.builder("smarteta.eta.coalesce.suppressed")
+                .description("같은 주문의 더 최신 ETA 변경으로 대체되어 전송하지 않은 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("smarteta.eta.coalesce.pending", pending, ConcurrentHashMap::size)
+                .description("전송을 기다리는 주문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ETA 변경 이벤트를 Kafka에 비동기로 전송하는 메서드
+     * 같은 주문의 ETA 변경이 순서대로 전달되도록 주문 ID를 키로 사용
+     *
+     * smarteta.eta.coalesce.enabled=true 이면 주문별로 첫 변경 후 window-ms 동안 들어온 변경을 모아 마지막 것만 전송함
+     * (앞선 변경의 future도 마지막 변경의 전송 결과로 완료됨)
+     * 이때 future는 window-ms가 지나야 완료되므로, 완료를 기다리는 쪽(OutboxRelay)의 대기 시간도 그만큼 늘어남
+     *
+     * @param event ETA 변경 이벤트
+     * @return 전송 결과
+     */
+    public CompletableFuture<SendResult<String, EtaUpdatedEvent>> sendEtaUpdatedEvent(EtaUpdatedEvent event) {
+        if (!coalesceEnabled) return send(event);
+
+        Long orderId = event.getOrderId();
+        Pending[] created = new Pending[1];
+        Pending current = pending.compute(orderId, (id, existing) -> {
+            if (existing != null) {
+                existing.latest = event;
+                suppressed.increment();
+                return existing;
+            }
+            // 모아 둔 주문이 너무 많으면 모으지 않음
+            if (pending.size() >= coalesceMaxPending) return null;
+            created[0] = new Pending(event);
+            return created[0];
+        });
+
+        if (current == null) return send(event);
+        if (created[0] != null) {
+            flusher.schedule(() -> flush(orderId), coalesceWindowMs, TimeUnit.MILLISECONDS);
+        }
+        return current.future;
+    }
+
+    private CompletableFuture<SendResult<String, EtaUpdatedEvent>> send(EtaUpdatedEvent event) {
+        String key = String.valueOf(event.getOrderId());
+        long start = System.nanoTime();
+        return kafkaTemplate.send(TOPIC, key, event)
+                .whenComplete((result, ex) -> sendMetrics.record(TOPIC, key, start, ex));
+    }
+
+    // 주문의 최신 ETA 변경을 전송하고, 그동안 모인 변경들의 future를 완료
+    private void flush(Long orderId) {
+        Pending target = pending.remove(orderId);
+        if (target == null) return;
+
+        try {
+            send(target.latest).whenComplete((result, ex) -> {
+                if (ex != null) target.future.completeExceptionally(ex);
+                else target.future.complete(result);
+            });
+        } catch (Exception e) {
+            target.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 종료 시 모아 둔 ETA 변경을 모두 바로 전송
+     */
+    @Override
+    public void destroy() {
+        if (flusher == null) return;
+
+        flusher.shutdownNow();
+        int remaining = pending.size();
+        for (Long orderId : pending.keySet()) {
+            flush(orderId);
+        }
+        kafkaTemplate.flush();
+        if (remaining > 0) {
+            log.info("종료 전 모아 둔 ETA 변경 전송 - 주문 수: {}", remaining);
+        }
+    }
+
+    // 주문 하나에 대해 모아 둔 최신 ETA 변경과, 그 전송 결과를 기다리는 future
+    private static final class Pending {
+        private EtaUpdatedEvent latest;
+        private final CompletableFuture<SendResult<String, EtaUpdatedEvent>> future = new CompletableFuture<>();
+
+        private Pending(EtaUpdatedEvent latest) {
+            this.latest = latest;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 배달 완료 / ETA 변경 이벤트의 바이너리 형식 (스키마 레지스트리 없이 버전 바이트로 구분)
+ *
+ * [magic 1][version 1][type 1][flags 1] 뒤에 값이 있는 필드만 선언 순서대로 이어 붙임
+ * - ID: 8바이트 long (big-endian)
+ * - 시각: LocalDateTime을 UTC 기준 epoch 초(8바이트) + 나노초(4바이트)로 저장 (시간대 변환 없이 그대로 복원됨)
+ * - flags의 i번째 비트가 1이면 i번째 필드가 있음 (null 필드는 기록하지 않음)
+ *
+ * magic(0xC1)은 UTF-8에서 나올 수 없는 바이트이므로 JSON 메시지와 첫 바이트로 구분할 수 있음
+ * 필드를 추가할 때는 끝에 붙이고 VERSION을 올림 (이전 버전 메시지도 계속 읽을 수 있어야 함)
+ */
+public final class EventBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+    public static final byte VERSION = 1;
+
+    static final byte TYPE_DELIVERY_COMPLETED = 1;
+    static final byte TYPE_ETA_UPDATED = 2;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int ID_SIZE = Long.BYTES;
+    private static final int TIME_SIZE = Long.BYTES + Integer.BYTES;
+
+    private EventBinaryCodec() {
+    }
+
+    /**
+     * 바이너리 형식으로 인코딩된 메시지인지 확인하는 메서드
+     * @param data 메시지 값
+     * @return 첫 바이트가 magic이면 true
+     */
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC;
+    }
+
+    /**
+     * 바이너리 형식으로 인코딩할 수 있는 이벤트인지 확인하는 메서드
+     */
+    public static boolean supports(Object event) {
+        return event instanceof DeliveryCompletedEvent || event instanceof EtaUpdatedEvent;
+    }
+
+    /**
+     * 이벤트를 바이너리 형식으로 인코딩하는 메서드
+     * @param event DeliveryCompletedEvent 또는 EtaUpdatedEvent
+     * @return 인코딩된 바이트 배열
+     */
+    public static byte[] encode(Object event) {
+        if (event instanceof DeliveryCompletedEvent delivery) return encode(delivery);
+        if (event instanceof EtaUpdatedEvent eta) return encode(eta);
+        throw new SerializationException("바이너리 형식을 지원하지 않는 이벤트입니다: " + event.getClass().getName());
+    }
+
+    public static byte[] encode(DeliveryCompletedEvent event) {
+        int size = HEADER_SIZE + sizeOf(event.orderId()) + sizeOf(event.deliveredAt()) + sizeOf(event.storeId());
+        ByteBuffer buffer = header(size, TYPE_DELIVERY_COMPLETED,
+                flags(event.orderId(), event.deliveredAt(), event.storeId()));
+        putId(buffer, event.orderId());
+        putTime(buffer, event.deliveredAt());
+        putId(buffer, event.storeId());
+        return buffer.array();
+    }
+
+    public static byte[] encode(EtaUpdatedEvent event) {
+        int size = HEADER_SIZE + sizeOf(event.getOrderId()) + sizeOf(event.getMemberId()) + sizeOf(event.getNewEta());
+        ByteBuffer buffer = header(size, TYPE_ETA_UPDATED,
+                flags(event.getOrderId(), event.getMemberId(), event.getNewEta()));
+        putId(buffer, event.getOrderId());
+        putId(buffer, event.getMemberId());
+        putTime(buffer, event.getNewEta());
+        return buffer.array();
+    }
+
+    /**
+     * 바이너리 형식의 메시지를 이벤트로 디코딩하는 메서드
+     * @param data 메시지 값 (isBinary가 true여야 함)
+     * @return DeliveryCompletedEvent 또는 EtaUpdatedEvent
+     */
+    public static Object decode(byte[] data) {
+        if (!isBinary(data)) throw new SerializationException("바이너리 형식의 메시지가 아닙니다.");
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.get();
+        byte version = buffer.get();
+        if (version < 1 || version > VERSION) {
+            throw new SerializationException("지원하지 않는 바이너리 형식 버전입니다: " + version);
+        }
+        byte type = buffer.get();
+        int flags = buffer.get();
+
+        try {
+            return switch (type) {
+                case TYPE_DELIVERY_COMPLETED -> new DeliveryCompletedEvent(
+                        getId(buffer, flags, 0), getTime(buffer, flags, 1), getId(buffer, flags, 2));
+                case TYPE_ETA_UPDATED -> new EtaUpdatedEvent(
+                        getId(buffer, flags, 0), getId(buffer, flags, 1), getTime(buffer, flags, 2));
+                default -> throw new SerializationException("알 수 없는 이벤트 타입입니다: " + type);
+            };
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException) throw e;
+            throw new SerializationException("바이너리 메시지를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static ByteBuffer header(int size, byte type, byte flags) {
+        return ByteBuffer.allocate(size)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(type)
+                .put(flags);
+    }
+
+    private static byte flags(Object first, Object second, Object third) {
+        int flags = 0;
+        if (first != null) flags |= 1;
+        if (second != null) flags |= 1 << 1;
+        if (third != null) flags |= 1 << 2;
+        return (byte) flags;
+    }
+
+    private static int sizeOf(Long id) {
+        return id == null ? 0 : ID_SIZE;
+    }
+
+    private static int sizeOf(LocalDateTime time) {
+        return time == null ? 0 : TIME_SIZE;
+    }
+
+    private static void putId(ByteBuffer buffer, Long id) {
+        if (id != null) buffer.putLong(id);
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        if (time == null) return;
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(time.getNano());
+    }
+
+    private static Long getId(ByteBuffer buffer, int flags, int field) {
+        return (flags & (1 << field)) == 0 ? null : buffer.getLong();
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer, int flags, int field) {
+        if ((flags & (1 << field)) == 0) return null;
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
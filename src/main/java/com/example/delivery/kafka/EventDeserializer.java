@@ -0,0 +1,42 @@
+package com.example.delivery.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * 바이너리 / JSON 형식의 이벤트를 모두 읽는 Kafka Deserializer
+ *
+ * - 첫 바이트가 EventBinaryCodec.MAGIC 이면 바이너리 형식으로 읽음
+ * - 아니면 기존처럼 JsonDeserializer로 읽음 (spring.json.* 설정을 그대로 사용)
+ *
+ * 메시지마다 형식을 판별하므로 한 토픽에 두 형식이 섞여 있어도(전환 중, DLT 재처리) 읽을 수 있음
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> json = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (EventBinaryCodec.isBinary(data)) return EventBinaryCodec.decode(data);
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (EventBinaryCodec.isBinary(data)) return EventBinaryCodec.decode(data);
+        return json.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
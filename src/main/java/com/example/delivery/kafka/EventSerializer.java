@@ -0,0 +1,63 @@
+package com.example.delivery.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 토픽별로 바이너리 / JSON 형식을 골라 이벤트를 직렬화하는 Kafka Serializer
+ *
+ * - 프로듀서 설정 smarteta.event.binary-topics (쉼표로 구분한 토픽 정규식)에 맞는 토픽은 EventBinaryCodec으로 직렬화
+ * - 그 밖의 토픽, 바이너리 형식이 없는 타입은 기존처럼 JsonSerializer로 직렬화
+ *
+ * 전환 순서: EventDeserializer를 쓰는 컨슈머를 먼저 배포한 뒤 토픽을 binary-topics에 추가
+ * (재시도 토픽 / DLT도 같은 프로듀서를 쓰므로 정규식에 함께 포함해야 바이너리로 전송됨)
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    public static final String BINARY_TOPICS_CONFIG = "smarteta.event.binary-topics";
+
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+    private final List<Pattern> binaryTopics = new ArrayList<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        binaryTopics.clear();
+        Object value = configs.get(BINARY_TOPICS_CONFIG);
+        if (value == null) return;
+        for (String topic : value.toString().split(",")) {
+            if (!topic.isBlank()) binaryTopics.add(Pattern.compile(topic.trim()));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data != null && EventBinaryCodec.supports(data) && isBinaryTopic(topic)) {
+            return EventBinaryCodec.encode(data);
+        }
+        return headers == null ? json.serialize(topic, data) : json.serialize(topic, headers, data);
+    }
+
+    private boolean isBinaryTopic(String topic) {
+        for (Pattern pattern : binaryTopics) {
+            if (pattern.matcher(topic).matches()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.delivery.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 전송 완료 콜백에서 전송 지연 시간과 실패를 기록하는 컴포넌트
+ *
+ * - smarteta.kafka.producer.send (topic, result=success|failure): send 호출부터 브로커 응답까지 걸린 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaSendMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 전송 결과를 기록하는 메서드
+     * @param topic 토픽 이름
+     * @param key 메시지 키
+     * @param startNanos send 호출 시각 (System.nanoTime)
+     * @param ex 실패 원인 (성공이면 null)
+     */
+    public void record(String topic, String key, long startNanos, Throwable ex) {
+        Timer.builder("smarteta.kafka.producer.send")
+                .description("Kafka 메시지 전송 지연 시간")
+                .tag("topic", topic)
+                .tag("result", ex == null ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (ex != null) {
+            log.error("Kafka 메시지 전송 실패 → topic={}, key={}", topic, key, ex);
+        } else {
+            log.debug("Kafka 메시지 전송 완료 → topic={}, key={}", topic, key);
+        }
+    }
+}
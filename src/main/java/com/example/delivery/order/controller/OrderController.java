@@ -1,23 +1,40 @@
 package com.example.delivery.order.controller;
 
 import com.example.delivery.kafka.DeliveryEventProducer;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.dto.EtaExtensionResponse;
 import com.example.delivery.order.dto.OrderRequest;
 import com.example.delivery.order.dto.OrderResponse;
+import com.example.delivery.order.service.AsyncOrderService;
 import com.example.delivery.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final AsyncOrderService asyncOrderService;
     private final DeliveryEventProducer deliveryEventProducer;
 
+    // POST /orders/batch 한 번에 받을 수 있는 최대 주문 수
+    @Value("${smarteta.orders.batch-max-size:5000}")
+    private int batchMaxSize;
+
+    // 매장 ETA 일괄 연장 한 번에 더할 수 있는 최대 분(minute)
+    @Value("${smarteta.orders.eta-extension.max-minutes:120}")
+    private int etaExtensionMaxMinutes;
+
     /**
      * 주문을 생성하는 API
      * @param request 주문 요청 DTO
@@ -29,6 +46,34 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 주문을 비동기로 생성하는 API
+     * 주문 저장은 별도 실행기에서 처리되고 요청 스레드는 곧바로 반납됨 (주문이 커밋된 뒤 응답)
+     * 처리 중인 요청이 smarteta.orders.async.max-in-flight 를 넘으면 503
+     * @param request 주문 요청 DTO
+     * @return 주문 ID 및 ETA가 포함된 응답 DTO
+     */
+    @PostMapping("/async")
+    public CompletableFuture<ResponseEntity<OrderResponse>> createOrderAsync(@RequestBody OrderRequest request) {
+        return asyncOrderService.makeOrder(request).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 여러 주문을 한 번에 생성하는 API
+     * 제휴사에서 몰려 들어오는 주문을 JDBC 배치로 한 번에 저장
+     * 주문 수가 smarteta.orders.batch-max-size 를 넘으면 400
+     * @param requests 주문 요청 DTO 목록
+     * @return 요청 순서와 같은 순서의 주문 응답 DTO 목록
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderResponse>> createOrders(@RequestBody List<OrderRequest> requests) {
+        if (requests.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 주문은 최대 " + batchMaxSize + "건입니다. 요청: " + requests.size());
+        }
+        List<OrderResponse> responses = orderService.makeOrders(requests);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 배달을 완료하는 API
      * @param orderId 주문 ID
@@ -43,8 +88,27 @@ public class OrderController {
         return ResponseEntity.ok("배달 완료");
     }
 
+    /**
+     * 매장의 배달되지 않은 모든 주문 ETA를 한 번에 연장하는 API
+     * 연장 시간이 1분 미만이거나 smarteta.orders.eta-extension.max-minutes 를 넘으면 400
+     * @param storeId 매장 ID
+     * @param additionalMinutes ETA에 추가할 분(minute) 단위 시간
+     * @return 연장된 주문 수
+     */
+    @PostMapping("/stores/{storeId}/eta-extension")
+    public ResponseEntity<EtaExtensionResponse> extendStoreEta(@PathVariable Long storeId,
+                                                               @RequestParam int additionalMinutes) {
+        if (additionalMinutes <= 0 || additionalMinutes > etaExtensionMaxMinutes) {
+            throw new IllegalArgumentException("ETA 연장 시간은 1~" + etaExtensionMaxMinutes + "분이어야 합니다. 요청: " + additionalMinutes);
+        }
+        int extended = orderService.extendEtaForStore(storeId, additionalMinutes);
+        return ResponseEntity.ok(new EtaExtensionResponse(storeId, additionalMinutes, extended));
+    }
+
     /**
      * 특정 주문이 배달 완료되었음을 Kafka를 통해 전송하는 API
+     * 같은 매장의 이벤트가 같은 파티션에서 순서대로 처리되도록 매장 ID를 담아 보냄
+     * (주문을 찾지 못하면 주문 ID를 키로 보내고, 컨슈머가 경고 후 건너뜀)
      *
      * @param orderId 배달 완료된 주문 ID
      * @param deliveredAt 실제 배달 완료 시각
@@ -55,7 +119,24 @@ public class OrderController {
                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deliveredAt) {
 
         // Kafka 토픽에 배달 완료 메시지를 전송
-        deliveryEventProducer.send("delivery-status", orderId, deliveredAt);
+        Long storeId = orderService.findStoreId(orderId).orElse(null);
+        deliveryEventProducer.send("delivery-status", new DeliveryCompletedEvent(orderId, deliveredAt, storeId));
         return ResponseEntity.ok("배달 완료 메시지를 Kafka로 전송");
     }
+
+    /**
+     * 요청 값이 올바르지 않은 경우(주문 수 초과, ETA 연장 시간 범위 초과, 유저 ID / 매장 ID 누락 등) 400으로 응답
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * 처리 중인 비동기 주문 생성이 너무 많아 거절된 경우 503으로 응답
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.delivery.order.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달이 끝나지 않은 주문의 ETA 처리용 요약 (ActiveOrderIndex에 보관)
+ * @param orderId 주문 ID
+ * @param userId 유저 ID
+ * @param storeId 매장 ID
+ * @param eta 현재 ETA
+ * @param status 배달 상태 (ASSIGNED 또는 PICKED_UP)
+ */
+public record ActiveOrder(long orderId, long userId, long storeId, LocalDateTime eta, DeliveryStatus status) {
+
+    /**
+     * 주문 엔티티로 요약을 만드는 메서드 (유저 ID / 매장 ID가 없으면 0, ActiveOrderIndex가 건너뜀)
+     */
+    public static ActiveOrder of(Order order) {
+        long userId = order.getUserId() == null ? 0 : order.getUserId();
+        long storeId = order.getStore() == null ? 0 : order.getStore().getId();
+        return new ActiveOrder(order.getId(), userId, storeId, order.getEta(), order.getStatus());
+    }
+
+    public ActiveOrder withEta(LocalDateTime eta) {
+        return new ActiveOrder(orderId, userId, storeId, eta, status);
+    }
+}
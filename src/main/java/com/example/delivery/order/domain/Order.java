@@ -4,6 +4,7 @@ import com.example.delivery.store.domain.Store;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -42,6 +43,9 @@ public class Order {
     @Setter
     private LocalDateTime eta;
 
+    // 주문 시 처음 계산된 ETA (ETA가 바뀌어도 그대로 두며, ETA 보정 학습의 기준)
+    private LocalDateTime predictedEta;
+
     // 실제 도착 시간
     private LocalDateTime deliveredAt;
 
@@ -68,4 +72,14 @@ public class Order {
         return this.deliveredAt.isAfter(this.eta.plusMinutes(5));
     }
 
+    /**
+     * ETA 대비 지연된 시간(분)을 계산하는 메서드
+     * 지연되지 않은 주문은 0을 반환
+     * @return 지연 시간(분)
+     */
+    public long getDelayMinutes() {
+        if (!isDelayed()) return 0L;
+        return Duration.between(this.eta, this.deliveredAt).toMinutes();
+    }
+
 }
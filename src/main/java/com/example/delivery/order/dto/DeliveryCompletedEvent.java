@@ -4,8 +4,16 @@ import java.time.LocalDateTime;
 
 /**
  * Kafka로부터 수신하는 배달 완료 이벤트
+ * storeId는 메시지 키(같은 매장 이벤트를 같은 파티션으로 보내기 위함)로 쓰이며,
+ * 매장을 모르는 경로에서 발행된 이벤트나 이전 형식의 메시지에서는 null일 수 있음
  */
 public record DeliveryCompletedEvent(
         Long orderId,
-        LocalDateTime deliveredAt
-) {}
+        LocalDateTime deliveredAt,
+        Long storeId
+) {
+
+    public DeliveryCompletedEvent(Long orderId, LocalDateTime deliveredAt) {
+        this(orderId, deliveredAt, null);
+    }
+}
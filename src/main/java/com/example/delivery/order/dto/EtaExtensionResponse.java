@@ -0,0 +1,10 @@
+package com.example.delivery.order.dto;
+
+/**
+ * 매장 전체 ETA 연장 결과 DTO
+ * @param storeId 매장 ID
+ * @param additionalMinutes 연장한 시간(분)
+ * @param extendedOrders ETA가 연장된 주문 수
+ */
+public record EtaExtensionResponse(Long storeId, int additionalMinutes, int extendedOrders) {
+}
@@ -0,0 +1,12 @@
+package com.example.delivery.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETA를 바꿀 주문의 최소 정보
+ * @param orderId 주문 ID
+ * @param userId 유저 ID
+ * @param eta 현재 ETA
+ */
+public record OrderEta(Long orderId, Long userId, LocalDateTime eta) {
+}
@@ -0,0 +1,24 @@
+package com.example.delivery.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 배달 완료 주문 집계 결과 (DB GROUP BY 프로젝션)
+ */
+public interface StoreDelayAggregation {
+
+    // 매장 ID
+    Long getStoreId();
+
+    // 총 주문 수
+    int getTotalOrders();
+
+    // 지연된 주문 수 (ETA보다 5분 초과 늦은 경우)
+    int getDelayedOrders();
+
+    // 지연된 주문들의 지연 시간 합(분)
+    long getTotalDelayMinutes();
+
+    // 가장 마지막 배달 완료 시각
+    LocalDateTime getLatestDeliveredAt();
+}
@@ -0,0 +1,92 @@
+package com.example.delivery.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 오래된 배달 완료 주문을 orders_archive로 옮기고, orders의 월 파티션을 관리하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepository {
+
+    private static final String SELECT_ARCHIVABLE_SQL =
+            "SELECT id FROM orders WHERE delivered_at < ? ORDER BY delivered_at LIMIT ?";
+
+    private static final String COPY_SQL =
+            "INSERT IGNORE INTO orders_archive (id, user_id, store_id, distance_km, created_at, eta, delivered_at) " +
+            "SELECT id, user_id, store_id, distance_km, created_at, eta, delivered_at FROM orders WHERE id IN (%s)";
+
+    private static final String DELETE_SQL = "DELETE FROM orders WHERE id IN (%s)";
+
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String ADD_PARTITION_SQL =
+            "ALTER TABLE orders REORGANIZE PARTITION p_future INTO (" +
+            "PARTITION %s VALUES LESS THAN ('%s'), PARTITION p_future VALUES LESS THAN (MAXVALUE))";
+
+    private static final String PARTITION_HAS_ROWS_SQL = "SELECT EXISTS (SELECT 1 FROM orders PARTITION (%s))";
+
+    private static final String DROP_PARTITION_SQL = "ALTER TABLE orders DROP PARTITION %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아카이브 대상 주문 ID를 배달 완료 시각이 오래된 순으로 조회하는 메서드
+     * @param before 이 시각 이전에 배달 완료된 주문이 대상
+     * @param limit 최대 조회 수
+     * @return 주문 ID 목록
+     */
+    public List<Long> findArchivableIds(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ARCHIVABLE_SQL, Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 주문들을 orders_archive로 복사한 뒤 orders에서 지우는 메서드 (같은 트랜잭션 안에서 호출)
+     * 이미 복사된 주문은 건너뛰므로 중간에 실패해도 다시 실행할 수 있음
+     * @param ids 주문 ID 목록
+     * @return orders에서 지워진 주문 수
+     */
+    public int moveToArchive(List<Long> ids) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update(COPY_SQL.formatted(placeholders), args);
+        return jdbcTemplate.update(DELETE_SQL.formatted(placeholders), args);
+    }
+
+    /**
+     * orders의 파티션 이름을 순서대로 조회하는 메서드
+     * @return 파티션 이름 목록 (파티션 테이블이 아니면 빈 목록)
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class);
+    }
+
+    /**
+     * p_future 앞에 새 월 파티션을 추가하는 메서드
+     * @param name 파티션 이름 (pYYYYMM)
+     * @param lessThan 파티션 상한 (다음 달 1일, 미포함)
+     */
+    public void addPartition(String name, LocalDate lessThan) {
+        jdbcTemplate.execute(ADD_PARTITION_SQL.formatted(name, lessThan));
+    }
+
+    public boolean hasRows(String partitionName) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(PARTITION_HAS_ROWS_SQL.formatted(partitionName), Boolean.class));
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(partitionName));
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.delivery.order.repository;
+
+import com.example.delivery.order.domain.ActiveOrder;
+import com.example.delivery.order.domain.DeliveryStatus;
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.dto.OrderEta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문을 JDBC 배치로 한 번에 저장하고, 매장 단위로 한 번에 갱신하는 저장소
+ *
+ * Order는 IDENTITY 전략이라 Hibernate가 insert를 배치로 묶지 못하므로, 대량 주문은 JDBC 배치로 직접 저장함
+ * MySQL 드라이버에서 rewriteBatchedStatements=true 이면(application.yml의 커넥션 풀 설정) 배치가 multi-row INSERT 한 번으로
+ * 전송되고, 생성된 ID도 입력 순서대로 함께 돌려받음
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO orders (user_id, store_id, distance_km, created_at, eta, predicted_eta, delivered_at, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_UNDELIVERED_FOR_UPDATE_SQL =
+            "SELECT id, user_id, eta FROM orders WHERE store_id = ? AND delivered_at IS NULL ORDER BY id FOR UPDATE";
+
+    private static final String EXTEND_UNDELIVERED_ETA_SQL =
+            "UPDATE orders SET eta = TIMESTAMPADD(MINUTE, ?, eta) WHERE store_id = ? AND delivered_at IS NULL";
+
+    private static final String SELECT_ACTIVE_SQL =
+            "SELECT id, user_id, store_id, eta, status FROM orders WHERE created_at >= ? AND delivered_at IS NULL";
+
+    private static final String SELECT_ETA_FOR_UPDATE_SQL = "SELECT eta FROM orders WHERE id = ? FOR UPDATE";
+
+    private static final String SET_ETA_SQL = "UPDATE orders SET eta = ? WHERE id = ?";
+
+    private static final String COMPLETE_DELIVERY_SQL = "UPDATE orders SET delivered_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 목록을 하나의 JDBC 배치로 저장하는 메서드
+     * @param orders 저장할 주문 목록 (ID 없음)
+     * @return 저장된 주문 ID 목록 (입력 순서와 동일)
+     */
+    public List<Long> insertAll(List<Order> orders) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Order order = orders.get(i);
+                        if (order.getUserId() == null) {
+                            ps.setNull(1, Types.BIGINT);
+                        } else {
+                            ps.setLong(1, order.getUserId());
+                        }
+                        ps.setLong(2, order.getStore().getId());
+                        ps.setDouble(3, order.getDistanceKm());
+                        ps.setTimestamp(4, Timestamp.valueOf(order.getCreatedAt()));
+                        ps.setTimestamp(5, Timestamp.valueOf(order.getEta()));
+                        ps.setTimestamp(6, Timestamp.valueOf(order.getPredictedEta()));
+                        if (order.getDeliveredAt() == null) {
+                            ps.setNull(7, Types.TIMESTAMP);
+                        } else {
+                            ps.setTimestamp(7, Timestamp.valueOf(order.getDeliveredAt()));
+                        }
+                        ps.setString(8, order.getStatus().name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(orders.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * 매장의 배달되지 않은 주문을 잠그며 조회하는 메서드
+     * 같은 트랜잭션의 extendUndeliveredEtas가 끝날 때까지 다른 트랜잭션이 이 주문들을 바꾸지 못함
+     * @param storeId 매장 ID
+     * @return 배달되지 않은 주문의 ID, 유저 ID, 현재 ETA
+     */
+    public List<OrderEta> findUndeliveredForUpdate(Long storeId) {
+        return jdbcTemplate.query(SELECT_UNDELIVERED_FOR_UPDATE_SQL,
+                (rs, rowNum) -> new OrderEta(rs.getLong("id"), rs.getLong("user_id"),
+                        rs.getTimestamp("eta").toLocalDateTime()),
+                storeId);
+    }
+
+    /**
+     * 매장의 배달되지 않은 주문 ETA를 한 번의 UPDATE로 연장하는 메서드
+     * @param storeId 매장 ID
+     * @param additionalMinutes ETA에 추가할 분(minute) 단위 시간
+     * @return 연장된 주문 수
+     */
+    public int extendUndeliveredEtas(Long storeId, int additionalMinutes) {
+        return jdbcTemplate.update(EXTEND_UNDELIVERED_ETA_SQL, additionalMinutes, storeId);
+    }
+
+    /**
+     * 일정 시각 이후에 생성된 배달되지 않은 주문을 조회하는 메서드 (진행 중 주문 인덱스 생성용)
+     * created_at은 파티션 키이므로 기간 밖의 월 파티션은 읽지 않음
+     * 유저 ID / 매장 ID가 NULL인 행은 0으로 읽히며, 인덱스가 건너뜀
+     * @param createdSince 조회할 주문 생성 시각의 하한
+     * @return 배달되지 않은 주문 목록
+     */
+    public List<ActiveOrder> findActiveOrders(LocalDateTime createdSince) {
+        return jdbcTemplate.query(SELECT_ACTIVE_SQL, (rs, rowNum) -> new ActiveOrder(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getLong("store_id"),
+                rs.getTimestamp("eta").toLocalDateTime(),
+                DeliveryStatus.valueOf(rs.getString("status"))),
+                Timestamp.valueOf(createdSince));
+    }
+
+    /**
+     * 주문 하나의 현재 ETA를 잠그며 조회하는 메서드
+     * 같은 트랜잭션이 끝날 때까지 다른 트랜잭션이 이 주문의 ETA를 바꾸지 못하므로, 읽은 값을 기준으로 새 ETA를 계산해도 유실되지 않음
+     * @param orderId 주문 ID
+     * @return 현재 ETA (주문이 없으면 빈 값)
+     */
+    public Optional<LocalDateTime> findEtaForUpdate(long orderId) {
+        List<LocalDateTime> etas = jdbcTemplate.query(SELECT_ETA_FOR_UPDATE_SQL,
+                (rs, rowNum) -> rs.getTimestamp("eta").toLocalDateTime(), orderId);
+        return etas.stream().findFirst();
+    }
+
+    /**
+     * 주문 하나의 ETA를 바꾸는 메서드
+     * @param orderId 주문 ID
+     * @param eta 새 ETA
+     * @return 변경된 행 수
+     */
+    public int updateEta(long orderId, LocalDateTime eta) {
+        return jdbcTemplate.update(SET_ETA_SQL, Timestamp.valueOf(eta), orderId);
+    }
+
+    /**
+     * 주문 하나의 배달 완료 시각을 기록하는 메서드
+     * @param orderId 주문 ID
+     * @param deliveredAt 배달 완료 시각
+     * @return 변경된 행 수
+     */
+    public int completeDelivery(long orderId, LocalDateTime deliveredAt) {
+        return jdbcTemplate.update(COMPLETE_DELIVERY_SQL, Timestamp.valueOf(deliveredAt), orderId);
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.delivery.order.repository;
 
 import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.dto.StoreDelayAggregation;
 import com.example.delivery.store.domain.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order,Long> {
     /**
@@ -20,4 +25,43 @@ public interface OrderRepository extends JpaRepository<Order,Long> {
 
     List<Order> findByDeliveredAtBetween(LocalDateTime start, LocalDateTime end);
 
+    /**
+     * 특정 기간 동안 배달 완료된 주문을 DB에서 매장별로 집계하는 메서드
+     * 주문 엔티티를 메모리에 올리지 않고 매장당 한 행만 반환하므로, 주문 수와 무관하게 메모리 사용량이 일정함
+     * 지연 기준은 Order.isDelayed()와 동일 (ETA + 5분 초과)
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (포함)
+     * @return 매장별 집계 결과
+     */
+    @Query(value = """
+            SELECT o.store_id AS storeId,
+                   COUNT(*) AS totalOrders,
+                   COALESCE(SUM(CASE WHEN o.delivered_at > o.eta + INTERVAL 5 MINUTE THEN 1 ELSE 0 END), 0) AS delayedOrders,
+                   COALESCE(SUM(CASE WHEN o.delivered_at > o.eta + INTERVAL 5 MINUTE
+                                     THEN TIMESTAMPDIFF(MINUTE, o.eta, o.delivered_at) ELSE 0 END), 0) AS totalDelayMinutes,
+                   MAX(o.delivered_at) AS latestDeliveredAt
+            FROM orders o
+            WHERE o.delivered_at BETWEEN :start AND :end
+            GROUP BY o.store_id
+            """, nativeQuery = true)
+    List<StoreDelayAggregation> aggregateDelayStatsByStore(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
+    /**
+     * 여러 주문을 매장 정보와 함께 한 번에 조회하는 메서드
+     * 배치 리스너에서 주문마다 Store를 지연 로딩하지 않도록 fetch join 사용
+     * @param ids 주문 ID 목록
+     * @return 매장 정보가 채워진 주문들
+     */
+    @Query("select o from Order o join fetch o.store where o.id in :ids")
+    List<Order> findAllWithStoreByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주문의 매장 ID만 조회하는 메서드 (주문 엔티티를 읽지 않음)
+     * @param id 주문 ID
+     * @return 매장 ID (주문이 없으면 빈 값)
+     */
+    @Query("select o.store.id from Order o where o.id = :id")
+    Optional<Long> findStoreIdById(@Param("id") Long id);
+
 }
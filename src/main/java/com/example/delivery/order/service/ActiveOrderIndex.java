@@ -0,0 +1,248 @@
+package com.example.delivery.order.service;
+
+import com.example.delivery.order.domain.ActiveOrder;
+import com.example.delivery.order.repository.OrderBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 배달이 끝나지 않은(ASSIGNED / PICKED_UP) 주문을 메모리에 유지하는 인덱스
+ *
+ * - 주문 ID → ActiveOrder 를 long 키 해시 맵에 보관하고, 매장 ID / 유저 ID 보조 인덱스를 함께 유지
+ * - 주문 생성 시 추가, ETA 변경 시 갱신, 배달 완료 시 제거 (DB 반영 후 함께 반영하는 write-through)
+ * - 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하므로 롤백된 변경은 보이지 않음
+ * - 시작 시 최근 smarteta.orders.active-index.load-days 일 안에 생성된 배달되지 않은 주문으로 다시 만듦
+ *   (그보다 오래된 미배달 주문(취소·방치 등)은 올리지 않으며, 해당 주문은 DB 경로로 처리됨)
+ * - 유저 ID / 매장 ID가 없는(0으로 읽힌) 주문은 키로 쓸 수 없으므로 넣지 않음 (해당 주문은 DB 경로로 처리됨)
+ *
+ * ETA 변경과 배달 완료 처리는 이 인덱스로 주문을 확인하므로 Hibernate로 주문을 읽지 않음
+ * 읽기는 읽기 잠금, 변경은 쓰기 잠금으로 보호함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveOrderIndex {
+
+    private final OrderBulkRepository orderBulkRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 시작 시 인덱스에 올릴 주문의 생성 기간(일)
+    @Value("${smarteta.orders.active-index.load-days:3}")
+    private int loadDays;
+
+    // 주문 ID → 주문
+    private final LongObjectHashMap<ActiveOrder> orders = new LongObjectHashMap<>(1024);
+
+    // 매장 ID → (주문 ID → 주문)
+    private final LongObjectHashMap<LongObjectHashMap<ActiveOrder>> byStore = new LongObjectHashMap<>();
+
+    // 유저 ID → (주문 ID → 주문)
+    private final LongObjectHashMap<LongObjectHashMap<ActiveOrder>> byUser = new LongObjectHashMap<>();
+
+    /**
+     * 주문 하나를 조회하는 메서드
+     * @param orderId 주문 ID
+     * @return 배달이 끝나지 않은 주문 (없으면 null)
+     */
+    public ActiveOrder get(long orderId) {
+        lock.readLock().lock();
+        try {
+            return orders.get(orderId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 매장의 배달이 끝나지 않은 주문을 조회하는 메서드
+     * @param storeId 매장 ID
+     * @return 주문 목록
+     */
+    public List<ActiveOrder> findByStore(long storeId) {
+        return snapshot(byStore, storeId);
+    }
+
+    /**
+     * 유저의 배달이 끝나지 않은 주문을 조회하는 메서드
+     * @param userId 유저 ID
+     * @return 주문 목록
+     */
+    public List<ActiveOrder> findByUser(long userId) {
+        return snapshot(byUser, userId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return orders.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주문을 추가하거나 갱신하는 메서드
+     * @param activeOrders 추가/갱신할 주문 목록
+     */
+    public void putAll(Collection<ActiveOrder> activeOrders) {
+        if (activeOrders.isEmpty()) return;
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (ActiveOrder order : activeOrders) {
+                    if (indexable(order)) putLocked(order);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void put(ActiveOrder activeOrder) {
+        putAll(List.of(activeOrder));
+    }
+
+    /**
+     * 주문들의 ETA를 같은 시간만큼 옮기는 메서드 (인덱스에 없는 주문은 무시)
+     * @param orderIds 주문 ID 목록
+     * @param minutes 더할 시간(분)
+     */
+    public void shiftEta(Collection<Long> orderIds, long minutes) {
+        if (orderIds.isEmpty()) return;
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Long orderId : orderIds) {
+                    ActiveOrder current = orders.get(orderId);
+                    if (current != null) putLocked(current.withEta(current.eta().plusMinutes(minutes)));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 배달이 끝난 주문들을 제거하는 메서드
+     * @param orderIds 주문 ID 목록
+     */
+    public void removeAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) return;
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Long orderId : orderIds) {
+                    removeLocked(orderId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(long orderId) {
+        removeAll(List.of(orderId));
+    }
+
+    /**
+     * DB의 최근 생성된 배달되지 않은 주문으로 인덱스를 채우는 메서드 (애플리케이션 시작 시 한 번 실행)
+     * 조회 이후 이미 반영된 더 최신 항목은 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ActiveOrder> activeOrders = orderBulkRepository.findActiveOrders(LocalDateTime.now().minusDays(loadDays));
+        int skipped = 0;
+        lock.writeLock().lock();
+        try {
+            for (ActiveOrder order : activeOrders) {
+                if (!indexable(order)) {
+                    skipped++;
+                } else if (orders.get(order.orderId()) == null) {
+                    putLocked(order);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (skipped > 0) {
+            log.warn("유저 ID 또는 매장 ID가 없는 주문은 인덱스에서 제외 - 주문 수: {}", skipped);
+        }
+        log.info("진행 중 주문 인덱스 생성 완료 - 주문 수: {}", activeOrders.size() - skipped);
+    }
+
+    private static boolean indexable(ActiveOrder order) {
+        return order.orderId() != 0 && order.userId() != 0 && order.storeId() != 0;
+    }
+
+    private void putLocked(ActiveOrder order) {
+        ActiveOrder previous = orders.put(order.orderId(), order);
+        if (previous != null) {
+            secondaryRemove(byStore, previous.storeId(), previous.orderId());
+            secondaryRemove(byUser, previous.userId(), previous.orderId());
+        }
+        secondaryPut(byStore, order.storeId(), order);
+        secondaryPut(byUser, order.userId(), order);
+    }
+
+    private void removeLocked(long orderId) {
+        ActiveOrder previous = orders.remove(orderId);
+        if (previous == null) return;
+        secondaryRemove(byStore, previous.storeId(), orderId);
+        secondaryRemove(byUser, previous.userId(), orderId);
+    }
+
+    private static void secondaryPut(LongObjectHashMap<LongObjectHashMap<ActiveOrder>> index, long key, ActiveOrder order) {
+        LongObjectHashMap<ActiveOrder> bucket = index.get(key);
+        if (bucket == null) {
+            bucket = new LongObjectHashMap<>(4);
+            index.put(key, bucket);
+        }
+        bucket.put(order.orderId(), order);
+    }
+
+    private static void secondaryRemove(LongObjectHashMap<LongObjectHashMap<ActiveOrder>> index, long key, long orderId) {
+        LongObjectHashMap<ActiveOrder> bucket = index.get(key);
+        if (bucket == null) return;
+        bucket.remove(orderId);
+        if (bucket.isEmpty()) index.remove(key);
+    }
+
+    private List<ActiveOrder> snapshot(LongObjectHashMap<LongObjectHashMap<ActiveOrder>> index, long key) {
+        lock.readLock().lock();
+        try {
+            LongObjectHashMap<ActiveOrder> bucket = index.get(key);
+            if (bucket == null) return List.of();
+            List<ActiveOrder> result = new ArrayList<>(bucket.size());
+            bucket.forEachValue(result::add);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
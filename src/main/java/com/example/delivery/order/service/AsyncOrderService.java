@@ -0,0 +1,95 @@
+package com.example.delivery.order.service;
+
+import com.example.delivery.order.dto.OrderRequest;
+import com.example.delivery.order.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성을 요청 스레드 밖에서 실행하는 서비스
+ *
+ * - 매장 조회, 주문 INSERT 커밋, 커밋 후 처리(진행 중 주문 인덱스 반영)를 별도 실행기에서 처리하고,
+ *   커밋이 끝나면 주문 응답으로 future를 완료함
+ * - 컨트롤러가 future를 그대로 반환하면 서블릿 비동기 처리로 Tomcat 요청 스레드가 곧바로 반납됨
+ * - 실행기: spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드, 아니면 smarteta.orders.async.pool-size 크기의 플랫폼 스레드 풀
+ * - 동시에 처리 중인 작업이 smarteta.orders.async.max-in-flight 를 넘으면 바로 거절 (대기열이 끝없이 쌓이지 않도록)
+ *
+ * 메트릭: smarteta.orders.async.in-flight, smarteta.orders.async.rejected
+ */
+@Slf4j
+@Service
+public class AsyncOrderService implements DisposableBean {
+
+    private final OrderService orderService;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Counter rejected;
+
+    public AsyncOrderService(OrderService orderService,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             @Value("${smarteta.orders.async.pool-size:64}") int poolSize,
+                             @Value("${smarteta.orders.async.max-in-flight:1000}") int maxInFlight) {
+        this.orderService = orderService;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-async-", 0).factory())
+                : Executors.newFixedThreadPool(poolSize, Thread.ofPlatform().name("order-async-", 0).daemon().factory());
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+
+        Gauge.builder("smarteta.orders.async.in-flight", inFlight, s -> maxInFlight - s.availablePermits())
+                .description("처리 중인 비동기 주문 생성 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("smarteta.orders.async.rejected")
+                .description("처리 중인 작업이 많아 거절한 비동기 주문 생성 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문을 비동기로 생성하는 메서드
+     * @param request 주문 요청 DTO
+     * @return 주문이 커밋되면 완료되는 주문 응답 (처리 중인 작업이 너무 많으면 RejectedExecutionException으로 실패)
+     */
+    public CompletableFuture<OrderResponse> makeOrder(OrderRequest request) {
+        if (!inFlight.tryAcquire()) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("처리 중인 주문 생성 요청이 " + maxInFlight + "건을 넘었습니다."));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> orderService.makeOrder(request), executor)
+                    .whenComplete((response, ex) -> inFlight.release());
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            inFlight.release();
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 새 작업을 막고, 처리 중인 주문 생성이 끝날 때까지 잠시 기다림
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("비동기 주문 생성 실행기 종료 대기 시간 초과 - 처리 중: {}건", maxInFlight - inFlight.availablePermits());
+            executor.shutdownNow();
+        }
+    }
+}
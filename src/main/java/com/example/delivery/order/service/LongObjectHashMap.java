@@ -0,0 +1,162 @@
+package com.example.delivery.order.service;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * long 키를 박싱하지 않는 오픈 어드레싱(선형 탐사) 해시 맵
+ *
+ * - 키는 long[], 값은 Object[]에 그대로 저장하므로 항목마다 Entry/Long 객체가 생기지 않음
+ * - 삭제 시 뒤쪽 항목을 당겨 채우므로(backward shift) 삭제 표시가 쌓이지 않음
+ * - 키 0은 빈 칸 표시로 쓰므로 저장할 수 없음 (주문/매장/유저 ID는 1부터 시작)
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 함
+ *
+ * @param <V> 값 타입
+ */
+class LongObjectHashMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    LongObjectHashMap() {
+        this(16);
+    }
+
+    LongObjectHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * @return 이전 값 (없었으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        checkKey(key);
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * @return 삭제된 값 (없었으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int slot = find(key);
+        if (slot < 0) return null;
+
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept((V) values[i]);
+        }
+    }
+
+    private int find(long key) {
+        if (key == 0) return -1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 비운 칸 뒤의 항목 중, 원래 자리에서 비운 칸을 지나 밀려난 항목을 당겨옴
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == 0) break;
+
+            int home = mix(key) & mask;
+            // home이 (gap, slot] 구간 밖이면 gap으로 옮겨도 탐색 경로가 끊기지 않음
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) throw new IllegalArgumentException("0은 키로 사용할 수 없습니다.");
+    }
+
+    // 연속된 ID가 인접한 칸에 몰리지 않도록 섞음 (테스트에서 충돌 키를 고르기 위해 패키지 공개)
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.delivery.order.service;
+
+import com.example.delivery.order.repository.OrderArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * orders를 최근 주문만 담은 테이블로 유지하는 백그라운드 작업
+ *
+ * 처리 로직 (smarteta.orders.archive.interval-ms 주기):
+ * 1. 이번 달부터 months-ahead 개월 뒤까지의 월 파티션이 없으면 p_future를 나눠 미리 만듦
+ * 2. retention-days 이전에 배달 완료된 주문을 batch-size 건씩 orders_archive로 옮김
+ *    (배치마다 별도 트랜잭션, 한 주기에 최대 max-batches-per-run 배치)
+ * 3. 상한이 보관 기준일 이전이고 비어 있는 월 파티션을 지움
+ *
+ * orders가 파티션 테이블이 아니면(마이그레이션 전 DB, 인메모리 DB 등) 1, 3은 건너뜀
+ * smarteta.orders.archive.enabled=true 일 때만 등록됨 (기본 꺼짐)
+ * 통계 재계산이 orders만 읽으므로 retention-days는 통계 반영 지연보다 충분히 길어야 함
+ *
+ * 메트릭: smarteta.orders.archived (옮긴 주문 수), smarteta.orders.archive.batch (배치 하나의 처리 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smarteta.orders.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final OrderArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int monthsAhead;
+
+    private final Counter archived;
+    private final Timer batchTimer;
+
+    public OrderArchiver(OrderArchiveRepository archiveRepository,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${smarteta.orders.archive.retention-days:90}") int retentionDays,
+                         @Value("${smarteta.orders.archive.batch-size:1000}") int batchSize,
+                         @Value("${smarteta.orders.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                         @Value("${smarteta.orders.archive.months-ahead:3}") int monthsAhead) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.monthsAhead = monthsAhead;
+
+        this.archived = Counter.builder("smarteta.orders.archived")
+                .description("orders_archive로 옮긴 주문 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("smarteta.orders.archive.batch")
+                .description("아카이브 배치 하나의 조회~복사~삭제 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${smarteta.orders.archive.interval-ms:600000}")
+    public void run() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        try {
+            List<String> partitions = archiveRepository.findPartitionNames();
+            boolean partitioned = partitions.contains(FUTURE_PARTITION);
+
+            if (partitioned) createUpcomingPartitions(partitions);
+            int moved = archive(cutoff);
+            if (partitioned) dropEmptyPartitions(partitions, cutoff.toLocalDate());
+
+            if (moved > 0) log.info("오래된 주문 아카이브 완료 - 기준: {}, 주문 수: {}", cutoff, moved);
+        } catch (Exception e) {
+            log.error("주문 아카이브 실패", e);
+        }
+    }
+
+    // 1. 앞으로 쓸 월 파티션 생성 (p_future가 비어 있을 때는 메타데이터 변경만 일어남)
+    private void createUpcomingPartitions(List<String> partitions) {
+        YearMonth last = lastMonth(partitions);
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            // 이미 있거나, 더 뒤의 월 파티션이 있어 순서상 끼워 넣을 수 없는 달은 건너뜀
+            if (last != null && !month.isAfter(last)) continue;
+
+            String name = PARTITION_FORMAT.format(month.atDay(1));
+            archiveRepository.addPartition(name, month.plusMonths(1).atDay(1));
+            last = month;
+            log.info("주문 파티션 추가 - {}", name);
+        }
+    }
+
+    // 2. 배치 단위로 옮기기
+    private int archive(LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = archiveRepository.findArchivableIds(cutoff, batchSize);
+                return ids.isEmpty() ? 0 : archiveRepository.moveToArchive(ids);
+            }));
+            if (moved == null || moved == 0) break;
+
+            total += moved;
+            archived.increment(moved);
+            if (moved < batchSize) break;
+        }
+        return total;
+    }
+
+    // 3. 보관 기준일 이전 달의 빈 파티션 제거 (배달되지 않은 오래된 주문이 남아 있으면 유지)
+    private void dropEmptyPartitions(List<String> partitions, LocalDate cutoff) {
+        for (String name : partitions) {
+            YearMonth month = parseMonth(name);
+            if (month == null || month.plusMonths(1).atDay(1).isAfter(cutoff)) continue;
+            if (archiveRepository.hasRows(name)) continue;
+
+            archiveRepository.dropPartition(name);
+            log.info("빈 주문 파티션 제거 - {}", name);
+        }
+    }
+
+    private static YearMonth lastMonth(List<String> partitions) {
+        YearMonth last = null;
+        for (String name : partitions) {
+            YearMonth month = parseMonth(name);
+            if (month != null && (last == null || month.isAfter(last))) last = month;
+        }
+        return last;
+    }
+
+    // pYYYYMM 형식이 아니면(p_history, p_future) null
+    private static YearMonth parseMonth(String partitionName) {
+        if (partitionName.length() != 7 || !partitionName.startsWith("p")) return null;
+        try {
+            return YearMonth.of(Integer.parseInt(partitionName.substring(1, 5)),
+                    Integer.parseInt(partitionName.substring(5)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
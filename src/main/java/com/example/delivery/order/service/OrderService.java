@@ -1,21 +1,34 @@
 package com.example.delivery.order.service;
 
+import com.example.delivery.eta.domain.EtaChangeReason;
+import com.example.delivery.eta.dto.EtaChange;
 import com.example.delivery.eta.dto.EtaUpdatedEvent;
-import com.example.delivery.kafka.DeliveryEventProducer;
-import com.example.delivery.kafka.EtaEventProducer;
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.eta.service.EtaHistoryWriter;
+import com.example.delivery.order.domain.ActiveOrder;
 import com.example.delivery.order.domain.DeliveryStatus;
 import com.example.delivery.order.domain.Order;
 import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.dto.OrderEta;
 import com.example.delivery.order.dto.OrderRequest;
 import com.example.delivery.order.dto.OrderResponse;
+import com.example.delivery.order.repository.OrderBulkRepository;
 import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.outbox.service.OutboxService;
 import com.example.delivery.store.domain.Store;
-import com.example.delivery.store.repository.StoreRepository;
+import com.example.delivery.store.service.StoreCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +36,16 @@ public class OrderService {
 
     public static final double PEAK_TIME_MULTIPLIER = 1.2; // 피크 시간대 가중치
     private final OrderRepository orderRepository;
-    private final StoreRepository  storeRepository;
-    private final DeliveryEventProducer producer;
-    private final EtaEventProducer etaEventProducer;
+    private final StoreCache storeCache;
+    private final OutboxService outboxService;
+    private final OrderBulkRepository orderBulkRepository;
+    private final EtaCorrectionModel etaCorrectionModel;
+    private final EtaHistoryWriter etaHistoryWriter;
+    private final ActiveOrderIndex activeOrderIndex;
+
+    // 대량 주문 저장 시 한 번의 JDBC 배치에 담을 주문 수
+    @Value("${smarteta.orders.batch-insert-size:500}")
+    private int batchInsertSize;
 
 
     /**
@@ -34,25 +54,103 @@ public class OrderService {
      * @return 주문 응답 DTO
      */
     public OrderResponse makeOrder(OrderRequest request) {
-        Optional<Store> store = storeRepository.findById(request.getStoreId());
+        validate(request);
+        Optional<Store> store = storeCache.get(request.getStoreId());
         if(store.isEmpty()) throw new RuntimeException("매장을 찾을 수 없습니다.");
 
+        Order order = newOrder(store.get(), request, LocalDateTime.now());
+        orderRepository.save(order);
+        activeOrderIndex.put(ActiveOrder.of(order));
+
+        return toResponse(order.getId(), order);
+    }
+
+    /**
+     * 여러 주문을 한 번에 생성하는 메서드
+     * 처리 로직:
+     * 1. 요청에 포함된 매장들을 매장당 한 번만 조회 (캐시에 없는 매장만 한 번의 쿼리로 조회)
+     * 2. 주문별 ETA 계산
+     * 3. smarteta.orders.batch-insert-size 단위의 JDBC 배치로 저장 (전체가 하나의 트랜잭션)
+     * 4. 진행 중 주문 인덱스에 추가
+     *
+     * @param requests 주문 요청 DTO 목록
+     * @return 요청 순서와 같은 순서의 주문 응답 DTO 목록
+     */
+    @Transactional
+    public List<OrderResponse> makeOrders(List<OrderRequest> requests) {
+        // 1. 매장 일괄 조회
+        Set<Long> storeIds = new HashSet<>();
+        for (OrderRequest request : requests) {
+            validate(request);
+            storeIds.add(request.getStoreId());
+        }
+        Map<Long, Store> stores = storeCache.getAll(storeIds);
+
+        // 2. 주문 생성 및 ETA 계산
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime eta = calculateETA(store.get(), request, now);
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (OrderRequest request : requests) {
+            Store store = stores.get(request.getStoreId());
+            if (store == null) throw new RuntimeException("매장을 찾을 수 없습니다. storeId=" + request.getStoreId());
+            orders.add(newOrder(store, request, now));
+        }
+
+        // 3. JDBC 배치 저장
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        List<ActiveOrder> activeOrders = new ArrayList<>(orders.size());
+        for (int from = 0; from < orders.size(); from += batchInsertSize) {
+            List<Order> chunk = orders.subList(from, Math.min(from + batchInsertSize, orders.size()));
+            List<Long> ids = orderBulkRepository.insertAll(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                Order order = chunk.get(i);
+                responses.add(toResponse(ids.get(i), order));
+                activeOrders.add(new ActiveOrder(ids.get(i), order.getUserId(), order.getStore().getId(),
+                        order.getEta(), order.getStatus()));
+            }
+        }
 
-        Order order = Order.builder()
+        // 4. 진행 중 주문 인덱스에 추가 (커밋 후)
+        activeOrderIndex.putAll(activeOrders);
+        return responses;
+    }
+
+    /**
+     * 주문 요청의 필수 값을 확인하는 메서드
+     * 유저 ID / 매장 ID가 없는 주문은 진행 중 주문 인덱스의 키로 쓸 수 없으므로 저장하지 않음
+     * @param request 주문 요청 DTO
+     */
+    private static void validate(OrderRequest request) {
+        if (request.getUserId() == null || request.getUserId() <= 0) {
+            throw new IllegalArgumentException("유저 ID가 올바르지 않습니다. userId=" + request.getUserId());
+        }
+        if (request.getStoreId() == null || request.getStoreId() <= 0) {
+            throw new IllegalArgumentException("매장 ID가 올바르지 않습니다. storeId=" + request.getStoreId());
+        }
+    }
+
+    /**
+     * 주문 요청으로 저장 전 주문 엔티티를 만드는 메서드
+     * @param store 매장 정보
+     * @param request 주문 요청 DTO
+     * @param now 현재 시각
+     * @return ETA가 계산된 주문
+     */
+    private Order newOrder(Store store, OrderRequest request, LocalDateTime now) {
+        LocalDateTime eta = calculateETA(store, request, now);
+        return Order.builder()
                 .userId(request.getUserId())
-                .store(store.get())
+                .store(store)
                 .distanceKm(request.getDistanceKm())
                 .createdAt(now)
                 .eta(eta)
+                .predictedEta(eta)
                 .status(DeliveryStatus.ASSIGNED) // 기본 상태
                 .build();
+    }
 
-        orderRepository.save(order);
-
+    private OrderResponse toResponse(Long orderId, Order order) {
         return new OrderResponse(
-                order.getId(),
+                orderId,
                 order.getStatus(),
                 order.getCreatedAt(),
                 order.getDeliveredAt(),
@@ -62,24 +160,51 @@ public class OrderService {
 
     /**
      * 배달을 완료하는 메서드
+     * 배달 완료 이벤트는 주문 변경과 같은 트랜잭션으로 아웃박스에 기록되고, OutboxRelay가 Kafka로 발행함
+     * 진행 중 주문 인덱스에 있는 주문은 Hibernate로 읽지 않고 한 번의 UPDATE로 처리함
      * @param orderId 주문 ID
      * @param deliveredAt 배달 완료 시각
      */
+    @Transactional
     public void completeDelivery(Long orderId, LocalDateTime deliveredAt) {
-        Optional<Order> order = orderRepository.findById(orderId);
-        if(order.isEmpty()) throw new RuntimeException("주문을 찾을 수 없습니다.");
+        Long storeId;
+        ActiveOrder active = activeOrderIndex.get(orderId);
+        if (active != null) {
+            if (orderBulkRepository.completeDelivery(orderId, deliveredAt) == 0) {
+                throw new RuntimeException("주문을 찾을 수 없습니다.");
+            }
+            storeId = active.storeId();
+        } else {
+            // 인덱스에 없는 주문(이미 배달 완료 등)은 DB에서 확인
+            Optional<Order> order = orderRepository.findById(orderId);
+            if(order.isEmpty()) throw new RuntimeException("주문을 찾을 수 없습니다.");
+
+            Order o = order.get();
+            o.completeDelivery(deliveredAt);
+            orderRepository.save(o);
+            storeId = o.getStore().getId();
+        }
 
-        Order o = order.get();
-        o.completeDelivery(deliveredAt);
-        orderRepository.save(o);
+        // 배달 완료 이벤트를 아웃박스에 기록하고, 커밋 후 인덱스에서 제거
+        outboxService.appendDeliveryCompleted(new DeliveryCompletedEvent(orderId, deliveredAt, storeId));
+        activeOrderIndex.remove(orderId);
+    }
 
-        // Kafka 메시지 발행
-        DeliveryCompletedEvent event = new DeliveryCompletedEvent(o.getId(), deliveredAt);
-        producer.send("delivery-status", event);
+    /**
+     * 주문의 매장 ID를 조회하는 메서드 (배달 완료 이벤트를 매장 ID로 키잉하기 위함)
+     * 진행 중 주문 인덱스에 있으면 DB를 읽지 않음
+     * @param orderId 주문 ID
+     * @return 매장 ID (주문이 없으면 빈 값)
+     */
+    public Optional<Long> findStoreId(Long orderId) {
+        ActiveOrder active = activeOrderIndex.get(orderId);
+        if (active != null) return Optional.of(active.storeId());
+        return orderRepository.findStoreIdById(orderId);
     }
 
     /**
      * ETA를 계산하는 메서드
+     * 매장 평균 조리 시간(피크 시간 가중치 포함)에, 해당 매장·요일·시간대에서 학습된 보정값을 더함
      * @param store 매장 정보
      * @param request 주문 요청 DTO
      * @param now 현재 시각
@@ -87,6 +212,7 @@ public class OrderService {
      */
     public LocalDateTime calculateETA(Store store, OrderRequest request, LocalDateTime now) {
         int prepTime = isPeakTime(now) ? (int) ( store.getAvgPrepMinutes() * PEAK_TIME_MULTIPLIER) : store.getAvgPrepMinutes();
+        prepTime = Math.max(prepTime + etaCorrectionModel.correctionMinutes(store.getId(), now), 0);
         int totalMinutes = prepTime + request.getEstimatedDeliveryTimeMinutes();
         return now.plusMinutes(totalMinutes);
     }
@@ -106,35 +232,115 @@ public class OrderService {
     /**
      * 매장의 요청에 따라 ETA를 조정하는 메서드
      * 매장이 ETA를 몇 분 연장해달라고 요청한 경우 사용
+     * 변경 전 ETA는 인덱스가 아니라 같은 트랜잭션에서 잠그며 읽은 DB 값을 쓰고, 인덱스도 그 값으로 갱신함
+     * 변경 전후 ETA는 EtaHistory로 비동기 기록되고, ETA 변경 이벤트는 같은 트랜잭션으로 아웃박스에 기록됨
      * @param orderId 주문 ID
      * @param additionalMinutes ETA에 추가할 분(minute) 단위 시간
      */
+    @Transactional
     public void adjustEtaByStore(Long orderId, int additionalMinutes) {
-        Order order = orderRepository.findById(orderId).orElseThrow();
+        Long userId; // 유저 ID가 없는 이전 주문은 null
+        LocalDateTime previousEta;
+        LocalDateTime newEta;
+        ActiveOrder active = activeOrderIndex.get(orderId);
+        if (active != null) {
+            // 현재 ETA를 잠그며 읽은 뒤 요청받은 시간만큼 추가
+            userId = active.userId();
+            previousEta = orderBulkRepository.findEtaForUpdate(orderId).orElseThrow();
+            newEta = previousEta.plusMinutes(additionalMinutes);
+            orderBulkRepository.updateEta(orderId, newEta);
+            activeOrderIndex.put(active.withEta(newEta));
+        } else {
+            // 인덱스에 없는 주문은 DB에서 확인
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            userId = order.getUserId();
+            previousEta = order.getEta();
+            newEta = previousEta.plusMinutes(additionalMinutes);
+            order.setEta(newEta);
+            orderRepository.save(order);
+        }
 
-        // 기존 ETA에 요청받은 시간만큼 추가
-        order.setEta(order.getEta().plusMinutes(additionalMinutes));
-        orderRepository.save(order);
+        recordEtaChange(orderId, userId, previousEta, newEta, EtaChangeReason.STORE_EXTENSION);
+    }
+
+    /**
+     * 매장의 배달되지 않은 모든 주문 ETA를 한 번에 연장하는 메서드
+     * 주방이 밀려 매장이 진행 중인 주문 전체를 미뤄야 할 때 사용
+     *
+     * 처리 로직 (주문 수와 무관하게 SELECT 1번, UPDATE 1번, 아웃박스 INSERT 배치 1번):
+     * 1. 매장의 배달되지 않은 주문을 잠그며 조회 (ETA 변경 이벤트와 이력을 만들기 위함)
+     * 2. 한 번의 UPDATE로 ETA 연장
+     * 3. 주문별 ETA 변경 이벤트를 하나의 JDBC 배치로 아웃박스에 기록 (OutboxRelay가 배치로 발행)
+     * 4. 변경 이력은 커밋 후 EtaHistory 기록기에 넘김
+     *
+     * @param storeId 매장 ID
+     * @param additionalMinutes ETA에 추가할 분(minute) 단위 시간
+     * @return ETA가 연장된 주문 수
+     */
+    @Transactional
+    public int extendEtaForStore(Long storeId, int additionalMinutes) {
+        // 1. 대상 주문 잠금 및 조회
+        List<OrderEta> targets = orderBulkRepository.findUndeliveredForUpdate(storeId);
+        if (targets.isEmpty()) return 0;
+
+        // 2. ETA 일괄 연장
+        orderBulkRepository.extendUndeliveredEtas(storeId, additionalMinutes);
+
+        // 3. ETA 변경 이벤트 기록, 4. 변경 이력 기록
+        LocalDateTime now = LocalDateTime.now();
+        List<EtaUpdatedEvent> events = new ArrayList<>(targets.size());
+        List<EtaChange> changes = new ArrayList<>(targets.size());
+        for (OrderEta target : targets) {
+            LocalDateTime newEta = target.eta().plusMinutes(additionalMinutes);
+            events.add(new EtaUpdatedEvent(target.orderId(), target.userId(), newEta));
+            changes.add(new EtaChange(target.orderId(), target.eta(), newEta, EtaChangeReason.STORE_EXTENSION, now));
+        }
+        outboxService.appendEtaUpdatedAll(events);
+        etaHistoryWriter.recordAll(changes);
+        activeOrderIndex.shiftEta(targets.stream().map(OrderEta::orderId).toList(), additionalMinutes);
 
-        // Kafka로 ETA 변경 이벤트 발행
-        etaEventProducer.sendEtaUpdatedEvent(new EtaUpdatedEvent(
-                order.getId(), order.getUserId(), order.getEta()));
+        return targets.size();
     }
 
     /**
      * 조리 완료 시 ETA를 현재 시각을 기준으로 재설정하는 메서드
      * 평균 배달 시간을 기준으로 ETA를 재조정
+     * 변경 전후 ETA는 EtaHistory로 비동기 기록되고, ETA 변경 이벤트는 같은 트랜잭션으로 아웃박스에 기록됨
      * @param orderId 주문 ID
      */
+    @Transactional
     public void adjustEtaOnCookingCompleted(Long orderId) {
-        Order order = orderRepository.findById(orderId).orElseThrow();
-
         // 현재 시간 기준 ETA 재계산
-        order.setEta(LocalDateTime.now().plusMinutes(20));
-        orderRepository.save(order);
+        LocalDateTime newEta = LocalDateTime.now().plusMinutes(20);
 
-        // Kafka로 ETA 변경 이벤트 발행
-        etaEventProducer.sendEtaUpdatedEvent(new EtaUpdatedEvent(
-                order.getId(), order.getUserId(), order.getEta()));
+        Long userId; // 유저 ID가 없는 이전 주문은 null
+        LocalDateTime previousEta;
+        ActiveOrder active = activeOrderIndex.get(orderId);
+        if (active != null) {
+            userId = active.userId();
+            previousEta = orderBulkRepository.findEtaForUpdate(orderId).orElseThrow();
+            orderBulkRepository.updateEta(orderId, newEta);
+            activeOrderIndex.put(active.withEta(newEta));
+        } else {
+            // 인덱스에 없는 주문은 DB에서 확인
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            userId = order.getUserId();
+            previousEta = order.getEta();
+            order.setEta(newEta);
+            orderRepository.save(order);
+        }
+
+        recordEtaChange(orderId, userId, previousEta, newEta, EtaChangeReason.COOKING_COMPLETED);
+    }
+
+    /**
+     * ETA 변경 한 건의 이력과 이벤트를 기록하는 메서드
+     * - 변경 이력: 커밋 후 EtaHistory 기록기 버퍼에 넣기만 함
+     * - ETA 변경 이벤트: 같은 트랜잭션으로 아웃박스에 기록
+     */
+    private void recordEtaChange(Long orderId, Long userId, LocalDateTime previousEta, LocalDateTime newEta,
+                                 EtaChangeReason reason) {
+        etaHistoryWriter.record(new EtaChange(orderId, previousEta, newEta, reason, LocalDateTime.now()));
+        outboxService.appendEtaUpdated(new EtaUpdatedEvent(orderId, userId, newEta));
     }
 }
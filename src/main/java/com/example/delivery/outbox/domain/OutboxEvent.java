@@ -0,0 +1,44 @@
+package com.example.delivery.outbox.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+/* 주문 변경과 같은 트랜잭션으로 기록되고, OutboxRelay가 Kafka로 발행한 뒤 지우는 이벤트 */
+public class OutboxEvent {
+
+    // 아웃박스 이벤트 아이디 (발행 순서)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 발행할 토픽
+    private String topic;
+
+    // 이벤트 종류
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // JSON으로 직렬화한 이벤트
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    // 기록 시각
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.example.delivery.outbox.domain;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스에 쌓이는 이벤트 종류와 페이로드 타입
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    // 배달 완료 (delivery-status)
+    DELIVERY_COMPLETED(DeliveryCompletedEvent.class),
+    // ETA 변경 (eta-updated)
+    ETA_UPDATED(EtaUpdatedEvent.class);
+
+    private final Class<?> payloadType;
+}
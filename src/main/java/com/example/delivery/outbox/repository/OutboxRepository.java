@@ -0,0 +1,87 @@
+package com.example.delivery.outbox.repository;
+
+import com.example.delivery.outbox.domain.OutboxEvent;
+import com.example.delivery.outbox.domain.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 JDBC로 기록, 조회, 삭제하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (topic, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT id, topic, event_type, payload, created_at FROM outbox_event " +
+            "WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ?";
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .topic(rs.getString("topic"))
+            .eventType(OutboxEventType.valueOf(rs.getString("event_type")))
+            .payload(rs.getString("payload"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아웃박스 이벤트를 기록하는 메서드 (호출한 트랜잭션에 참여)
+     * @param topic 발행할 토픽
+     * @param eventType 이벤트 종류
+     * @param payload JSON으로 직렬화한 이벤트
+     * @param createdAt 기록 시각
+     */
+    public void insert(String topic, OutboxEventType eventType, String payload, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_SQL, topic, eventType.name(), payload, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * 여러 아웃박스 이벤트를 하나의 JDBC 배치로 기록하는 메서드 (호출한 트랜잭션에 참여)
+     * @param topic 발행할 토픽
+     * @param eventType 이벤트 종류
+     * @param payloads JSON으로 직렬화한 이벤트 목록
+     * @param createdAt 기록 시각
+     */
+    public void insertAll(String topic, OutboxEventType eventType, List<String> payloads, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, payloads, payloads.size(), (ps, payload) -> {
+            ps.setString(1, topic);
+            ps.setString(2, eventType.name());
+            ps.setString(3, payload);
+            ps.setTimestamp(4, timestamp);
+        });
+    }
+
+    /**
+     * afterId 다음부터 ID 순으로 이벤트를 잠그며 조회하는 메서드 (keyset 조회)
+     * @param afterId 이미 처리한 마지막 ID
+     * @param limit 최대 조회 건수
+     * @param skipLocked true면 다른 트랜잭션이 잠근 행은 건너뜀 (여러 인스턴스의 relay가 나눠 처리)
+     * @return ID 오름차순 이벤트 목록
+     */
+    public List<OutboxEvent> findBatchForUpdate(long afterId, int limit, boolean skipLocked) {
+        String sql = skipLocked ? SELECT_SQL + " SKIP LOCKED" : SELECT_SQL;
+        return jdbcTemplate.query(sql, ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * 발행이 끝난 이벤트를 하나의 JDBC 배치로 삭제하는 메서드
+     * @param ids 삭제할 이벤트 ID 목록
+     */
+    public void deleteAll(List<Long> ids) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.delivery.outbox.service;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.kafka.DeliveryEventProducer;
+import com.example.delivery.kafka.EtaEventProducer;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.outbox.domain.OutboxEvent;
+import com.example.delivery.outbox.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 테이블을 주기적으로 읽어 Kafka로 발행하고, 발행이 끝난 이벤트를 지우는 중계기
+ *
+ * 처리 로직 (smarteta.outbox.relay.poll-interval-ms 주기):
+ * 1. 트랜잭션 안에서 ID 순으로 최대 batch-size 건을 잠그며 조회 (keyset 조회, 여러 인스턴스면 SKIP LOCKED로 나눠 가짐)
+ * 2. 모든 이벤트를 기존 프로듀서로 한꺼번에 전송한 뒤 브로커 응답을 기다림
+ *    (배치 전체에 send-timeout-ms 한 번의 마감 시각을 두므로, 브로커 장애 시에도 행 잠금은 그 시간 이상 유지되지 않음)
+ * 3. 첫 실패 전까지 성공한 이벤트를 한 번의 JDBC 배치로 삭제하고 커밋
+ * 4. 꽉 찬 배치였고 실패가 없으면 마지막 ID 다음부터 이어서 처리
+ *
+ * 실패한 이벤트와 그 뒤의 이벤트는 남겨 두고 다음 주기에 다시 보냄 (최소 한 번 발행, 컨슈머는 중복을 견뎌야 함)
+ *
+ * 메트릭: smarteta.outbox.relay.published / failed (이벤트 수), smarteta.outbox.relay.batch (배치 처리 시간),
+ *        smarteta.outbox.relay.batch.size, smarteta.outbox.relay.lag (기록부터 발행 완료까지)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final DeliveryEventProducer deliveryEventProducer;
+    private final EtaEventProducer etaEventProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final boolean skipLocked;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       DeliveryEventProducer deliveryEventProducer,
+                       EtaEventProducer etaEventProducer,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${smarteta.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${smarteta.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+                       @Value("${smarteta.outbox.relay.skip-locked:true}") boolean skipLocked) {
+        this.outboxRepository = outboxRepository;
+        this.deliveryEventProducer = deliveryEventProducer;
+        this.etaEventProducer = etaEventProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.skipLocked = skipLocked;
+
+        this.published = Counter.builder("smarteta.outbox.relay.published")
+                .description("아웃박스에서 발행한 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("smarteta.outbox.relay.failed")
+                .description("발행에 실패해 다음 주기로 넘긴 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("smarteta.outbox.relay.batch")
+                .description("아웃박스 배치 하나의 조회~발행~삭제 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("smarteta.outbox.relay.batch.size")
+                .description("아웃박스 배치 하나의 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("smarteta.outbox.relay.lag")
+                .description("아웃박스 기록부터 발행 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쌓인 아웃박스 이벤트를 배치 단위로 발행하는 메서드
+     */
+    @Scheduled(fixedDelayString = "${smarteta.outbox.relay.poll-interval-ms:100}")
+    public void relay() {
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            BatchResult result = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch(from)));
+            if (result == null || result.fetched() < batchSize || result.failed() > 0) return;
+            afterId = result.lastId();
+        }
+    }
+
+    private BatchResult relayBatch(long afterId) {
+        List<OutboxEvent> events = outboxRepository.findBatchForUpdate(afterId, batchSize, skipLocked);
+        if (events.isEmpty()) return new BatchResult(0, 0, afterId);
+        batchSizeSummary.record(events.size());
+
+        // 1. 모두 전송
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(send(event));
+        }
+
+        // 2. 배치 전체의 마감 시각까지 ID 순으로 브로커 응답 대기, 성공한 이벤트만 삭제 대상
+        //    첫 실패 이후의 이벤트는 삭제하지 않고 남겨 둠 (같은 주문의 이전 이벤트보다 먼저 지워져 순서가 뒤집히지 않도록)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+                lagTimer.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("아웃박스 이벤트 발행 실패 - ID={}, type={}, 다음 주기로 넘긴 이벤트 {}건",
+                        event.getId(), event.getEventType(), events.size() - i, e);
+                break;
+            }
+        }
+
+        // 3. 일괄 삭제
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.deleteAll(publishedIds);
+        }
+
+        int failedCount = events.size() - publishedIds.size();
+        published.increment(publishedIds.size());
+        failed.increment(failedCount);
+        return new BatchResult(events.size(), failedCount, events.get(events.size() - 1).getId());
+    }
+
+    // 이벤트 종류에 맞는 프로듀서로 전송 (키와 전송 메트릭은 프로듀서가 처리)
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), event.getEventType().getPayloadType());
+            return switch (event.getEventType()) {
+                case DELIVERY_COMPLETED ->
+                        deliveryEventProducer.send(event.getTopic(), (DeliveryCompletedEvent) payload);
+                case ETA_UPDATED -> etaEventProducer.sendEtaUpdatedEvent((EtaUpdatedEvent) payload);
+            };
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private record BatchResult(int fetched, int failed, long lastId) {
+    }
+}
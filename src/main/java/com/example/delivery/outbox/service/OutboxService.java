@@ -0,0 +1,73 @@
+package com.example.delivery.outbox.service;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.outbox.domain.OutboxEventType;
+import com.example.delivery.outbox.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kafka로 보낼 이벤트를 아웃박스 테이블에 기록하는 서비스
+ *
+ * 호출한 트랜잭션 안에서 기록되므로, 주문 변경이 커밋되면 이벤트도 반드시 남고 롤백되면 이벤트도 사라짐
+ * 실제 발행은 OutboxRelay가 맡으므로 요청 스레드는 브로커를 기다리지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String DELIVERY_STATUS_TOPIC = "delivery-status";
+    public static final String ETA_UPDATED_TOPIC = "eta-updated";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배달 완료 이벤트를 아웃박스에 기록하는 메서드
+     * @param event 배달 완료 이벤트
+     */
+    public void appendDeliveryCompleted(DeliveryCompletedEvent event) {
+        append(DELIVERY_STATUS_TOPIC, OutboxEventType.DELIVERY_COMPLETED, event);
+    }
+
+    /**
+     * ETA 변경 이벤트를 아웃박스에 기록하는 메서드
+     * @param event ETA 변경 이벤트
+     */
+    public void appendEtaUpdated(EtaUpdatedEvent event) {
+        append(ETA_UPDATED_TOPIC, OutboxEventType.ETA_UPDATED, event);
+    }
+
+    /**
+     * 여러 ETA 변경 이벤트를 하나의 JDBC 배치로 아웃박스에 기록하는 메서드
+     * @param events ETA 변경 이벤트 목록
+     */
+    public void appendEtaUpdatedAll(List<EtaUpdatedEvent> events) {
+        if (events.isEmpty()) return;
+
+        List<String> payloads = new ArrayList<>(events.size());
+        for (EtaUpdatedEvent event : events) {
+            payloads.add(toJson(OutboxEventType.ETA_UPDATED, event));
+        }
+        outboxRepository.insertAll(ETA_UPDATED_TOPIC, OutboxEventType.ETA_UPDATED, payloads, LocalDateTime.now());
+    }
+
+    private void append(String topic, OutboxEventType eventType, Object event) {
+        outboxRepository.insert(topic, eventType, toJson(eventType, event), LocalDateTime.now());
+    }
+
+    private String toJson(OutboxEventType eventType, Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 직렬화할 수 없습니다. type=" + eventType, e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,11 +32,15 @@ public class StoreDelaySummaryController {
 
     /**
      * 전체 매장 중 지연률 기준 순위 목록을 반환하는 API
+     * @param offset 건너뛸 매장 수 (기본 0)
+     * @param limit 반환할 최대 매장 수 (생략 시 전체)
      * @return 매장별 지연률 내림차순 리스트
      */
     @GetMapping("/ranking")
-    public ResponseEntity<List<StoreDelaySummaryResponse>> getStoreRanking() {
-        List<StoreDelaySummaryResponse> ranking = summaryService.getStoreRanking();
+    public ResponseEntity<List<StoreDelaySummaryResponse>> getStoreRanking(@RequestParam(defaultValue = "0") int offset,
+                                                                           @RequestParam(required = false) Integer limit) {
+        List<StoreDelaySummaryResponse> ranking = summaryService.getStoreRanking(offset,
+                limit == null ? Integer.MAX_VALUE : limit);
         return ResponseEntity.ok(ranking);
     }
 }
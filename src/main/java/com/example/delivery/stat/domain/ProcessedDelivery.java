@@ -0,0 +1,33 @@
+package com.example.delivery.stat.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(indexes = @Index(name = "idx_processed_delivery_processed_at", columnList = "processedAt"))
+/* 배달 완료 이벤트 처리 표시 (같은 주문의 배달 완료가 지연 통계에 두 번 반영되지 않도록 하기 위한 도메인) */
+public class ProcessedDelivery {
+
+    // 주문 ID
+    @Id
+    private Long orderId;
+
+    // 처리 시각
+    private LocalDateTime processedAt;
+
+    // 배치로 처리 표시한 호출 식별자 (단건 표시는 0)
+    private long claimId;
+}
@@ -0,0 +1,74 @@
+package com.example.delivery.stat.domain;
+
+import com.example.delivery.order.domain.Order;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 하나에 한 번에 반영할 지연 통계 변화량
+ * 여러 배달 완료 주문을 메모리에서 누적한 뒤, 매장당 한 번만 StoreDelaySummary를 갱신하기 위해 사용됨
+ */
+@Getter
+public class StoreDelayDelta {
+
+    // 매장 ID
+    private final Long storeId;
+
+    // 매장 이름
+    private final String storeName;
+
+    // 새 주문 수
+    private int newOrders;
+
+    // 새 주문 중 지연된 주문 수
+    private int newDelayed;
+
+    // 지연된 주문들의 지연 시간 합(분)
+    private long newDelayMinutes;
+
+    // 가장 마지막 배달 완료 시각
+    private LocalDateTime lastDeliveredAt;
+
+    public StoreDelayDelta(Long storeId, String storeName) {
+        this.storeId = storeId;
+        this.storeName = storeName;
+    }
+
+    /**
+     * 이미 집계된 값으로 변화량을 만드는 메서드
+     * @param storeId 매장 ID
+     * @param storeName 매장 이름
+     * @param newOrders 새 주문 수
+     * @param newDelayed 새 주문 중 지연된 주문 수
+     * @param newDelayMinutes 지연된 주문들의 지연 시간 합(분)
+     * @param lastDeliveredAt 가장 마지막 배달 완료 시각
+     * @return 매장별 지연 통계 변화량
+     */
+    public static StoreDelayDelta of(Long storeId, String storeName, int newOrders, int newDelayed,
+                                     long newDelayMinutes, LocalDateTime lastDeliveredAt) {
+        StoreDelayDelta delta = new StoreDelayDelta(storeId, storeName);
+        delta.newOrders = newOrders;
+        delta.newDelayed = newDelayed;
+        delta.newDelayMinutes = newDelayMinutes;
+        delta.lastDeliveredAt = lastDeliveredAt;
+        return delta;
+    }
+
+    /**
+     * 배달 완료된 주문 하나를 변화량에 누적하는 메서드
+     * @param order 배달 완료된 주문
+     */
+    public void add(Order order) {
+        newOrders++;
+        if (order.isDelayed()) {
+            newDelayed++;
+            newDelayMinutes += order.getDelayMinutes();
+        }
+
+        LocalDateTime deliveredAt = order.getDeliveredAt();
+        if (deliveredAt != null && (lastDeliveredAt == null || deliveredAt.isAfter(lastDeliveredAt))) {
+            lastDeliveredAt = deliveredAt;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.delivery.stat.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(StoreDelayHourlyId.class)
+@Table(indexes = @Index(name = "idx_store_delay_hourly_bucket", columnList = "bucketHour"))
+/* 매장별 시간 단위 지연 통계 롤업 (재시작 시 최근 24시간 / 7일 구간을 복원하기 위한 도메인) */
+public class StoreDelayHourly {
+
+    // 매장 ID
+    @Id
+    private Long storeId;
+
+    // 버킷 시작 시각 (정시)
+    @Id
+    private LocalDateTime bucketHour;
+
+    // 배달 완료 주문 수
+    private int totalOrders;
+
+    // 지연된 주문 수
+    private int delayedOrders;
+
+    // 지연 시간 합(분)
+    private long totalDelayMinutes;
+}
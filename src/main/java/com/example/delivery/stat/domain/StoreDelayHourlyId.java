@@ -0,0 +1,23 @@
+package com.example.delivery.stat.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * StoreDelayHourly의 복합 키 (매장 ID + 버킷 시작 시각)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StoreDelayHourlyId implements Serializable {
+
+    private Long storeId;
+
+    private LocalDateTime bucketHour;
+}
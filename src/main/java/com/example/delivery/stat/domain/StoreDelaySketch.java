@@ -0,0 +1,91 @@
+package com.example.delivery.stat.domain;
+
+import com.example.delivery.stat.dto.DelayPercentiles;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+
+/**
+ * 매장의 지연 시간 분포를 담는 병합 가능한 HDR 히스토그램 스케치
+ *
+ * - 주문마다 "ETA 대비 늦은 시간(초, 일찍 도착하면 0)"을 기록
+ * - 유효 숫자 2자리, 최대 1일까지 추적 (그 이상은 1일로 기록)
+ * - 압축된 바이트 배열로 직렬화되어 StoreDelaySummary.delaySketch 컬럼에 저장되며,
+ *   여러 인스턴스나 여러 날의 스케치를 그대로 더해 합칠 수 있음
+ */
+public class StoreDelaySketch {
+
+    private static final long MAX_DELAY_SECONDS = 24 * 60 * 60;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Histogram histogram;
+
+    public StoreDelaySketch() {
+        this(new Histogram(MAX_DELAY_SECONDS, SIGNIFICANT_DIGITS));
+    }
+
+    private StoreDelaySketch(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * 직렬화된 스케치를 복원하는 메서드
+     * @param bytes 압축된 스케치 (null이거나 비어 있으면 빈 스케치)
+     * @return 스케치
+     */
+    public static StoreDelaySketch decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return new StoreDelaySketch();
+        try {
+            return new StoreDelaySketch(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0));
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("지연 시간 스케치를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 스케치를 압축된 바이트 배열로 직렬화하는 메서드
+     * @return 압축된 스케치
+     */
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[length];
+        buffer.flip();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 주문 하나의 지연 시간을 기록하는 메서드
+     * @param delaySeconds ETA 대비 늦은 시간(초), 음수면 0으로 기록
+     */
+    public void record(long delaySeconds) {
+        histogram.recordValue(Math.min(Math.max(delaySeconds, 0), MAX_DELAY_SECONDS));
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 더하는 메서드
+     * @param other 더할 스케치
+     */
+    public void merge(StoreDelaySketch other) {
+        histogram.add(other.histogram);
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * p50 / p90 / p99 지연 시간(분)을 계산하는 메서드
+     * @return 백분위 지연 시간 (기록이 없으면 모두 0)
+     */
+    public DelayPercentiles percentiles() {
+        if (histogram.getTotalCount() == 0) return DelayPercentiles.EMPTY;
+        return new DelayPercentiles(
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / 60.0,
+                histogram.getValueAtPercentile(90) / 60.0,
+                histogram.getValueAtPercentile(99) / 60.0);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.delivery.stat.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,6 +33,11 @@ public class StoreDelaySummary {
     // 마지막으로 지연율을 계산한 시각
     private LocalDateTime lastAnalyzedAt;
 
+    // 지연 시간 분포 스케치 (압축된 HDR 히스토그램, StoreDelaySketch 참고)
+    @Lob
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] delaySketch;
+
     /**
      * 지연율 계산에 필요한 정보를 업데이트하는 메서드
      * @param newOrders 새 주문들의 개수
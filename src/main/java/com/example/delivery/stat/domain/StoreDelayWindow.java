@@ -0,0 +1,209 @@
+package com.example.delivery.stat.domain;
+
+import com.example.delivery.stat.dto.DelayWindowStats;
+
+import java.util.Arrays;
+
+/**
+ * 매장 하나의 최근 지연 통계를 시간 버킷 링 버퍼로 유지하는 도메인
+ *
+ * - 분 단위 버킷 60개: 최근 1시간
+ * - 시간 단위 버킷 168개: 최근 24시간 / 7일 (시간 단위로 잘리므로 현재 시각이 속한 시간부터 거슬러 셈)
+ * - 구간별 합계를 따로 유지하고, 시간이 지나 구간을 벗어나는 버킷만 빼므로 조회는 O(1)
+ *
+ * 시각은 epoch 기준 분/시간 번호로 다루며, 동시 접근은 객체 단위로 동기화함
+ * 가장 최근 버킷은 배달 완료 시각이 아니라 호출하는 쪽이 넘긴 현재 시각으로 옮기므로,
+ * 현재 시각보다 늦은 배달 완료 시각은 현재 버킷에 누적됨
+ */
+public class StoreDelayWindow {
+
+    public static final int MINUTE_BUCKETS = 60;
+    public static final int HOUR_BUCKETS = 168;
+    public static final int DAY_HOURS = 24;
+
+    // 최근 1시간 (분 버킷)
+    private final Ring minutes = new Ring(MINUTE_BUCKETS, MINUTE_BUCKETS);
+
+    // 최근 24시간 / 7일 (시간 버킷)
+    private final Ring hours = new Ring(HOUR_BUCKETS, DAY_HOURS, HOUR_BUCKETS);
+
+    /**
+     * 배달 완료 건을 버킷에 누적하는 메서드
+     * 링 범위보다 오래된 건은 해당 구간에서 무시됨
+     * @param nowEpochMinute 현재 epoch 분
+     * @param epochMinute 배달 완료 시각의 epoch 분
+     * @param orders 주문 수
+     * @param delayed 지연된 주문 수
+     * @param delayMinutes 지연 시간 합(분)
+     */
+    public synchronized void add(long nowEpochMinute, long epochMinute, int orders, int delayed, long delayMinutes) {
+        minutes.add(nowEpochMinute, epochMinute, orders, delayed, delayMinutes);
+        hours.add(Math.floorDiv(nowEpochMinute, 60), Math.floorDiv(epochMinute, 60), orders, delayed, delayMinutes);
+    }
+
+    /**
+     * 이미 시간 단위로 모인 값을 시간 버킷에만 누적하는 메서드 (시작 시 롤업 테이블에서 복원할 때 사용)
+     * @param epochHour 버킷의 epoch 시간
+     * @param orders 주문 수
+     * @param delayed 지연된 주문 수
+     * @param delayMinutes 지연 시간 합(분)
+     */
+    public synchronized void addHour(long epochHour, int orders, int delayed, long delayMinutes) {
+        hours.add(epochHour, epochHour, orders, delayed, delayMinutes);
+    }
+
+    /**
+     * 최근 1시간 통계
+     * @param nowEpochMinute 현재 epoch 분
+     */
+    public synchronized DelayWindowStats lastHour(long nowEpochMinute) {
+        minutes.advance(nowEpochMinute);
+        return minutes.stats(0);
+    }
+
+    /**
+     * 최근 24시간 통계
+     * @param nowEpochMinute 현재 epoch 분
+     */
+    public synchronized DelayWindowStats lastDay(long nowEpochMinute) {
+        hours.advance(Math.floorDiv(nowEpochMinute, 60));
+        return hours.stats(0);
+    }
+
+    /**
+     * 최근 7일 통계
+     * @param nowEpochMinute 현재 epoch 분
+     */
+    public synchronized DelayWindowStats lastWeek(long nowEpochMinute) {
+        hours.advance(Math.floorDiv(nowEpochMinute, 60));
+        return hours.stats(1);
+    }
+
+    /**
+     * 고정 길이 버킷 링과, 가장 최근 버킷부터 거슬러 센 구간별 합계
+     * 구간 길이는 오름차순이며 마지막 구간이 링 전체 길이와 같음
+     */
+    private static final class Ring {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final int capacity;
+        private final int[] spans;
+
+        // 버킷별 값과, 그 버킷이 담고 있는 시각 번호 (EMPTY면 빈 버킷)
+        private final long[] slotTime;
+        private final int[] slotOrders;
+        private final int[] slotDelayed;
+        private final long[] slotDelayMinutes;
+
+        // 구간별 합계
+        private final int[] totalOrders;
+        private final int[] totalDelayed;
+        private final long[] totalDelayMinutes;
+
+        // 가장 최근 버킷의 시각 번호
+        private long head = EMPTY;
+
+        Ring(int capacity, int... spans) {
+            this.capacity = capacity;
+            this.spans = spans;
+            this.slotTime = new long[capacity];
+            this.slotOrders = new int[capacity];
+            this.slotDelayed = new int[capacity];
+            this.slotDelayMinutes = new long[capacity];
+            this.totalOrders = new int[spans.length];
+            this.totalDelayed = new int[spans.length];
+            this.totalDelayMinutes = new long[spans.length];
+            Arrays.fill(slotTime, EMPTY);
+        }
+
+        /**
+         * 가장 최근 버킷을 now까지 옮긴 뒤 time 버킷에 누적함
+         * time이 가장 최근 버킷보다 늦으면 가장 최근 버킷에 누적함
+         */
+        void add(long now, long time, int orders, int delayed, long delayMinutes) {
+            advance(now);
+            if (time > head) time = head;
+            if (time <= head - capacity) return;
+
+            int slot = slot(time);
+            if (slotTime[slot] != time) {
+                clearSlot(slot);
+                slotTime[slot] = time;
+            }
+            slotOrders[slot] += orders;
+            slotDelayed[slot] += delayed;
+            slotDelayMinutes[slot] += delayMinutes;
+
+            for (int i = 0; i < spans.length; i++) {
+                if (time > head - spans[i]) {
+                    totalOrders[i] += orders;
+                    totalDelayed[i] += delayed;
+                    totalDelayMinutes[i] += delayMinutes;
+                }
+            }
+        }
+
+        /**
+         * 가장 최근 버킷을 time까지 옮기고, 구간을 벗어난 버킷을 합계에서 뺌
+         * 한 번에 옮기는 칸 수는 링 길이를 넘지 않음
+         */
+        void advance(long time) {
+            if (head == EMPTY) {
+                head = time;
+                return;
+            }
+            if (time <= head) return;
+
+            if (time - head >= capacity) {
+                Arrays.fill(slotTime, EMPTY);
+                Arrays.fill(slotOrders, 0);
+                Arrays.fill(slotDelayed, 0);
+                Arrays.fill(slotDelayMinutes, 0);
+                Arrays.fill(totalOrders, 0);
+                Arrays.fill(totalDelayed, 0);
+                Arrays.fill(totalDelayMinutes, 0);
+                head = time;
+                return;
+            }
+
+            for (long t = head + 1; t <= time; t++) {
+                // 짧은 구간: t가 들어오면서 t - span 버킷이 빠짐
+                for (int i = 0; i < spans.length - 1; i++) {
+                    expire(i, t - spans[i]);
+                }
+                // 링 전체 구간: t가 쓸 칸에 있던 버킷이 빠짐
+                int slot = slot(t);
+                if (slotTime[slot] != EMPTY) {
+                    expire(spans.length - 1, slotTime[slot]);
+                }
+                clearSlot(slot);
+                slotTime[slot] = t;
+            }
+            head = time;
+        }
+
+        DelayWindowStats stats(int span) {
+            return DelayWindowStats.of(totalOrders[span], totalDelayed[span], totalDelayMinutes[span]);
+        }
+
+        private void expire(int span, long time) {
+            int slot = slot(time);
+            if (slotTime[slot] != time) return;
+            totalOrders[span] -= slotOrders[slot];
+            totalDelayed[span] -= slotDelayed[slot];
+            totalDelayMinutes[span] -= slotDelayMinutes[slot];
+        }
+
+        private void clearSlot(int slot) {
+            slotTime[slot] = EMPTY;
+            slotOrders[slot] = 0;
+            slotDelayed[slot] = 0;
+            slotDelayMinutes[slot] = 0;
+        }
+
+        private int slot(long time) {
+            return Math.floorMod(time, capacity);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.delivery.stat.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(StoreStatCheckpointId.class)
+/* 일별 매장 통계 반영 체크포인트 (재실행 시 이미 반영된 매장을 건너뛰기 위한 도메인) */
+public class StoreStatCheckpoint {
+
+    // 통계 대상 날짜
+    @Id
+    private LocalDate statDate;
+
+    // 매장 ID
+    @Id
+    private Long storeId;
+
+    // 통계 반영 완료 시각
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,23 @@
+package com.example.delivery.stat.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * StoreStatCheckpoint의 복합 키 (통계 대상 날짜 + 매장 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StoreStatCheckpointId implements Serializable {
+
+    private LocalDate statDate;
+
+    private Long storeId;
+}
@@ -0,0 +1,13 @@
+package com.example.delivery.stat.dto;
+
+/**
+ * 매장의 ETA 대비 지연 시간 백분위 (일찍 도착한 주문은 0분으로 포함)
+ * @param sampleCount 스케치에 기록된 주문 수
+ * @param p50Minutes 50번째 백분위 지연 시간(분)
+ * @param p90Minutes 90번째 백분위 지연 시간(분)
+ * @param p99Minutes 99번째 백분위 지연 시간(분)
+ */
+public record DelayPercentiles(long sampleCount, double p50Minutes, double p90Minutes, double p99Minutes) {
+
+    public static final DelayPercentiles EMPTY = new DelayPercentiles(0, 0.0, 0.0, 0.0);
+}
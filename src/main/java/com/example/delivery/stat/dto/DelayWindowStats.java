@@ -0,0 +1,22 @@
+package com.example.delivery.stat.dto;
+
+/**
+ * 최근 일정 구간(1시간 / 24시간 / 7일)의 매장 지연 통계
+ * @param totalOrders 구간 내 배달 완료 주문 수
+ * @param delayedOrders 구간 내 지연된 주문 수
+ * @param totalDelayMinutes 구간 내 지연 시간 합(분)
+ * @param delayRate 지연률 (0~100)
+ * @param avgDelayMinutes 지연된 주문의 평균 지연 시간(분)
+ */
+public record DelayWindowStats(int totalOrders, int delayedOrders, long totalDelayMinutes,
+                               double delayRate, double avgDelayMinutes) {
+
+    public static final DelayWindowStats EMPTY = new DelayWindowStats(0, 0, 0, 0.0, 0.0);
+
+    public static DelayWindowStats of(int totalOrders, int delayedOrders, long totalDelayMinutes) {
+        if (totalOrders == 0) return EMPTY;
+        return new DelayWindowStats(totalOrders, delayedOrders, totalDelayMinutes,
+                (double) delayedOrders / totalOrders * 100,
+                delayedOrders == 0 ? 0.0 : (double) totalDelayMinutes / delayedOrders);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.delivery.stat.dto;
+
+/**
+ * 매장의 최근 구간별 지연 통계
+ * @param lastHour 최근 1시간
+ * @param lastDay 최근 24시간
+ * @param lastWeek 최근 7일
+ */
+public record RecentDelayStats(DelayWindowStats lastHour, DelayWindowStats lastDay, DelayWindowStats lastWeek) {
+
+    public static final RecentDelayStats EMPTY =
+            new RecentDelayStats(DelayWindowStats.EMPTY, DelayWindowStats.EMPTY, DelayWindowStats.EMPTY);
+}
@@ -22,4 +22,8 @@ public class StoreDelaySummaryResponse {
     private long totalDelayMinutes;
     // 지연율 (지연 주문 수 / 총 주문 수) * 100
     private double delayRate;
+    // 최근 1시간 / 24시간 / 7일 지연 통계
+    private RecentDelayStats recent;
+    // ETA 대비 지연 시간 p50 / p90 / p99 (매장 단건 조회에서만 채워짐)
+    private DelayPercentiles delayPercentiles;
 }
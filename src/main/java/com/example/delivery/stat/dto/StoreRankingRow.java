@@ -0,0 +1,23 @@
+package com.example.delivery.stat.dto;
+
+/**
+ * 지연률 순위 인덱스를 만드는 데 필요한 매장 통계 컬럼만 읽는 프로젝션
+ * (store_delay_summary의 지연 시간 분포 스케치(MEDIUMBLOB)는 읽지 않음)
+ */
+public interface StoreRankingRow {
+
+    // 매장 ID
+    Long getStoreId();
+
+    // 매장 이름
+    String getStoreName();
+
+    // 총 주문 수
+    int getTotalOrders();
+
+    // 지연된 주문 수
+    int getDelayedOrders();
+
+    // 총 지연 시간 (분)
+    long getTotalDelayMinutes();
+}
@@ -0,0 +1,132 @@
+package com.example.delivery.stat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * 배달 완료 처리 표시(processed_delivery)를 JDBC로 기록, 조회, 삭제하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedDeliveryRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO processed_delivery (order_id, processed_at, claim_id) VALUES (?, ?, ?)";
+
+    private static final String SELECT_EXISTING_SQL = "SELECT order_id FROM processed_delivery WHERE order_id IN (%s)";
+
+    private static final String SELECT_CLAIMED_SQL =
+            "SELECT order_id FROM processed_delivery WHERE claim_id = ? AND order_id IN (%s)";
+
+    private static final String SELECT_SINCE_SQL =
+            "SELECT order_id FROM processed_delivery WHERE processed_at >= ? AND order_id > ? ORDER BY order_id LIMIT ?";
+
+    private static final int PAGE_SIZE = 10000;
+
+    private static final String DELETE_OLDER_THAN_SQL = "DELETE FROM processed_delivery WHERE processed_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문을 처리한 것으로 표시하는 메서드
+     * 이미 표시된 주문이면 아무것도 하지 않음 (같은 주문을 동시에 표시하려는 트랜잭션은 먼저 표시한 쪽이 끝날 때까지 기다림)
+     * @param orderId 주문 ID
+     * @param processedAt 처리 시각
+     * @return 새로 표시했으면 true, 이미 표시되어 있었으면 false
+     */
+    public boolean markProcessed(long orderId, LocalDateTime processedAt) {
+        return jdbcTemplate.update(INSERT_IGNORE_SQL, orderId, Timestamp.valueOf(processedAt), 0L) == 1;
+    }
+
+    /**
+     * 여러 주문을 한 번의 JDBC 배치로 처리한 것으로 표시하고, 이번에 새로 표시한 주문을 반환하는 메서드
+     * - INSERT IGNORE이므로 이미 표시된 주문(다른 인스턴스나 리밸런싱 전 컨슈머가 표시한 주문)이 섞여 있어도 예외 없이 건너뜀
+     * - 행별 결과가 0이면 이미 표시된 주문으로 보고 제외
+     * - rewriteBatchedStatements로 여러 행 INSERT로 합쳐져 드라이버가 행별 결과를 주지 않으면(SUCCESS_NO_INFO),
+     *   이번 호출의 claim_id로 기록된 행을 다시 조회해서 판정
+     * @param orderIds 주문 ID 목록 (중복 없음)
+     * @param processedAt 처리 시각
+     * @return 이번에 새로 표시한 주문 ID
+     */
+    public Set<Long> insertIgnoreAll(List<Long> orderIds, LocalDateTime processedAt) {
+        if (orderIds.isEmpty()) return Set.of();
+        Timestamp timestamp = Timestamp.valueOf(processedAt);
+        long claimId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, orderIds, orderIds.size(), (ps, orderId) -> {
+            ps.setLong(1, orderId);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, claimId);
+        });
+
+        Set<Long> inserted = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                Long orderId = orderIds.get(index++);
+                if (count == 1) inserted.add(orderId);
+                else if (count != 0) unknown.add(orderId);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            String placeholders = String.join(",", Collections.nCopies(unknown.size(), "?"));
+            List<Object> args = new ArrayList<>(unknown.size() + 1);
+            args.add(claimId);
+            args.addAll(unknown);
+            inserted.addAll(jdbcTemplate.queryForList(
+                    SELECT_CLAIMED_SQL.formatted(placeholders), Long.class, args.toArray()));
+        }
+        return inserted;
+    }
+
+    /**
+     * 주어진 주문 중 이미 처리 표시된 주문을 조회하는 메서드
+     * @param orderIds 주문 ID 목록
+     * @return 처리 표시된 주문 ID
+     */
+    public Set<Long> findProcessed(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) return Set.of();
+        String placeholders = String.join(",", Collections.nCopies(orderIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                SELECT_EXISTING_SQL.formatted(placeholders), Long.class, orderIds.toArray()));
+    }
+
+    /**
+     * 특정 시각 이후 처리 표시된 주문 ID를 하나씩 넘겨주는 메서드
+     * 주문 ID 순으로 나눠 읽으므로 전체를 메모리에 올리지 않음
+     * @param since 시작 시각 (포함)
+     * @param consumer 주문 ID를 받을 함수
+     */
+    public void forEachProcessedSince(LocalDateTime since, LongConsumer consumer) {
+        Timestamp timestamp = Timestamp.valueOf(since);
+        long afterId = 0;
+        while (true) {
+            List<Long> page = jdbcTemplate.queryForList(SELECT_SINCE_SQL, Long.class, timestamp, afterId, PAGE_SIZE);
+            page.forEach(consumer::accept);
+            if (page.size() < PAGE_SIZE) return;
+            afterId = page.get(page.size() - 1);
+        }
+    }
+
+    /**
+     * 오래된 처리 표시를 최대 limit 건 삭제하는 메서드
+     * @param before 이 시각 이전의 표시가 대상
+     * @param limit 최대 삭제 수
+     * @return 삭제된 수
+     */
+    public int deleteOlderThan(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, Timestamp.valueOf(before), limit);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.delivery.stat.repository;
+
+import com.example.delivery.stat.domain.StoreDelayHourly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 매장별 시간 단위 지연 통계 변화량을 JDBC 배치로 한 번에 누적하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreDelayHourlyBulkRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO store_delay_hourly
+                (store_id, bucket_hour, total_orders, delayed_orders, total_delay_minutes)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                total_orders = total_orders + VALUES(total_orders),
+                delayed_orders = delayed_orders + VALUES(delayed_orders),
+                total_delay_minutes = total_delay_minutes + VALUES(total_delay_minutes)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시간 버킷별 변화량을 하나의 JDBC 배치로 누적하는 메서드
+     * - 버킷 행이 없으면 변화량으로 새로 생성하고, 있으면 기존 값에 더함
+     * @param deltas 매장 ID + 버킷 시작 시각별 변화량
+     */
+    public void upsertAll(List<StoreDelayHourly> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoreDelayHourly delta = deltas.get(i);
+                ps.setLong(1, delta.getStoreId());
+                ps.setTimestamp(2, Timestamp.valueOf(delta.getBucketHour()));
+                ps.setInt(3, delta.getTotalOrders());
+                ps.setInt(4, delta.getDelayedOrders());
+                ps.setLong(5, delta.getTotalDelayMinutes());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.delivery.stat.repository;
+
+import com.example.delivery.stat.domain.StoreDelayHourly;
+import com.example.delivery.stat.domain.StoreDelayHourlyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StoreDelayHourlyRepository extends JpaRepository<StoreDelayHourly, StoreDelayHourlyId> {
+
+    // 특정 시각 이후의 시간 버킷 조회 (오래된 버킷부터)
+    List<StoreDelayHourly> findByBucketHourGreaterThanEqualOrderByBucketHourAsc(LocalDateTime from);
+
+    // 보관 기간이 지난 시간 버킷 삭제
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM store_delay_hourly WHERE bucket_hour < :before", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,40 @@
+package com.example.delivery.stat.repository;
+
+import com.example.delivery.stat.domain.StoreDelaySketch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * store_delay_summary.delay_sketch 컬럼에 지연 시간 스케치를 병합하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreDelaySketchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 스케치에 새 스케치를 더해 다시 저장하는 메서드
+     * 행을 잠근 뒤 읽고 쓰므로, 여러 인스턴스가 같은 매장의 스케치를 동시에 병합해도 유실되지 않음
+     * @param storeId 매장 ID
+     * @param delta 더할 스케치
+     * @return 병합했으면 true, 매장 통계 행이 아직 없으면 false
+     */
+    @Transactional
+    public boolean merge(Long storeId, StoreDelaySketch delta) {
+        List<byte[]> rows = jdbcTemplate.query(
+                "SELECT delay_sketch FROM store_delay_summary WHERE store_id = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getBytes(1), storeId);
+        if (rows.isEmpty()) return false;
+
+        StoreDelaySketch sketch = StoreDelaySketch.decode(rows.get(0));
+        sketch.merge(delta);
+        jdbcTemplate.update("UPDATE store_delay_summary SET delay_sketch = ? WHERE store_id = ?",
+                sketch.encode(), storeId);
+        return true;
+    }
+}
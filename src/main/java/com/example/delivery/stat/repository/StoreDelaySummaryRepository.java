@@ -1,12 +1,67 @@
 package com.example.delivery.stat.repository;
 
 import com.example.delivery.stat.domain.StoreDelaySummary;
+import com.example.delivery.stat.dto.StoreRankingRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreDelaySummaryRepository extends JpaRepository<StoreDelaySummary, Long> {
 
     // 매장 ID로 통계 조회
     Optional<StoreDelaySummary> findByStoreId(Long storeId);
+
+    /**
+     * 존재하는 모든 매장의 순위용 통계를 조회하는 메서드 (지연 시간 분포 스케치 컬럼은 읽지 않음)
+     * 삭제된 매장의 통계 행은 제외함
+     * @return 매장별 순위용 통계
+     */
+    @Query("""
+            select s.storeId as storeId, s.storeName as storeName, s.totalOrders as totalOrders,
+                   s.delayedOrders as delayedOrders, s.totalDelayMinutes as totalDelayMinutes
+            from StoreDelaySummary s
+            where exists (select 1 from Store st where st.id = s.storeId)
+            """)
+    List<StoreRankingRow> findAllRankingRows();
+
+    /**
+     * 매장의 지연 통계 변화량을 DB에서 원자적으로 누적하는 메서드
+     * - 통계 행이 없으면 변화량을 초기값으로 새로 생성
+     * - 통계 행이 있으면 기존 값에 변화량을 더함 (SELECT 없이 한 번의 쿼리로 처리)
+     * - 마지막 분석 시각은 기존 값과 새 값 중 더 늦은 시각으로 유지
+     *
+     * @param storeId         매장 ID
+     * @param storeName       매장 이름 (기존 행에 이름이 없을 때만 반영)
+     * @param newOrders       새 주문 수
+     * @param newDelayed      새 주문 중 지연된 주문 수
+     * @param newDelayMinutes 지연된 주문들의 지연 시간 합(분)
+     * @param analyzedAt      마지막 배달 완료 시각
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO store_delay_summary
+                (store_id, store_name, total_orders, delayed_orders, total_delay_minutes, last_analyzed_at)
+            VALUES (:storeId, :storeName, :newOrders, :newDelayed, :newDelayMinutes, :analyzedAt)
+            ON DUPLICATE KEY UPDATE
+                store_name = COALESCE(store_name, VALUES(store_name)),
+                total_orders = total_orders + VALUES(total_orders),
+                delayed_orders = delayed_orders + VALUES(delayed_orders),
+                total_delay_minutes = total_delay_minutes + VALUES(total_delay_minutes),
+                last_analyzed_at = GREATEST(COALESCE(last_analyzed_at, VALUES(last_analyzed_at)),
+                                            COALESCE(VALUES(last_analyzed_at), last_analyzed_at))
+            """, nativeQuery = true)
+    int upsertStats(@Param("storeId") Long storeId,
+                    @Param("storeName") String storeName,
+                    @Param("newOrders") int newOrders,
+                    @Param("newDelayed") int newDelayed,
+                    @Param("newDelayMinutes") long newDelayMinutes,
+                    @Param("analyzedAt") LocalDateTime analyzedAt);
 }
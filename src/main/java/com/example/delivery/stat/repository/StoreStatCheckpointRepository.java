@@ -0,0 +1,34 @@
+package com.example.delivery.stat.repository;
+
+import com.example.delivery.stat.domain.StoreStatCheckpoint;
+import com.example.delivery.stat.domain.StoreStatCheckpointId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StoreStatCheckpointRepository extends JpaRepository<StoreStatCheckpoint, StoreStatCheckpointId> {
+
+    // 특정 날짜의 통계 반영이 끝난 매장 ID 조회
+    @Query("select c.storeId from StoreStatCheckpoint c where c.statDate = :statDate")
+    List<Long> findStoreIdsByStatDate(@Param("statDate") LocalDate statDate);
+
+    /**
+     * 체크포인트가 없을 때만 기록하는 메서드
+     * 호출한 트랜잭션이 커밋될 때까지 같은 키의 다른 기록은 대기하므로, 동시에 재실행되어도 한 번만 성공함
+     * @param statDate 통계 대상 날짜
+     * @param storeId 매장 ID
+     * @param completedAt 반영 완료 시각
+     * @return 새로 기록되었으면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO store_stat_checkpoint (stat_date, store_id, completed_at) " +
+            "VALUES (:statDate, :storeId, :completedAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("statDate") LocalDate statDate,
+                       @Param("storeId") Long storeId,
+                       @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,243 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.stat.repository.ProcessedDeliveryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 같은 주문의 배달 완료가 지연 통계에 두 번 반영되지 않도록 걸러내는 필터
+ * (Kafka 재전달, /orders/{orderId}/confirm 재시도 등)
+ *
+ * 판정 순서:
+ * 1. 최근 처리한 주문 ID(최대 smarteta.stats.dedup.recent-size 건, 정확한 값) → 있으면 DB를 보지 않고 중복으로 버림
+ * 2. processed_delivery 처리 표시 (최종 판정) → 주문 조회·통계 갱신과 같은 트랜잭션에서 기록
+ *    - 단건: INSERT IGNORE 한 번으로 표시와 판정을 함께 처리
+ *    - 배치: 블룸 필터가 "처리한 적 없음"으로 판정한 주문은 조회 없이 바로 표시하고,
+ *            "처리했을 수 있음"인 주문만 한 번의 IN 조회로 확인
+ *            표시도 INSERT IGNORE이므로 블룸 필터가 놓친 주문(다른 인스턴스가 표시한 주문 등)은 표시되지 않은 행으로 걸러짐
+ *
+ * 블룸 필터는 시작 시 보관 기간(retention-days) 안의 처리 표시로 채우고, 채워지기 전에는 모든 주문을 DB로 확인함
+ * 예상 주문 수를 넘게 쌓이면 정리 주기에 DB에서 다시 만듦
+ * 메모리 반영은 트랜잭션 커밋 후에 하므로, 롤백된 처리는 다음 재전달 때 다시 처리됨
+ *
+ * 리밸런싱 중 두 컨슈머가 같은 주문을 동시에 표시하면 나중 쪽은 먼저 표시한 트랜잭션이 끝날 때까지 기다린 뒤 중복으로 판정함
+ *
+ * 메트릭: smarteta.delivery.duplicates (source=memory|db)
+ */
+@Slf4j
+@Component
+public class DeliveryDeduplicator {
+
+    private final ProcessedDeliveryRepository processedRepository;
+    private final long expectedOrders;
+    private final double falsePositiveRate;
+    private final int retentionDays;
+    private final int cleanupBatchSize;
+
+    // 아래 세 필드는 this로 동기화
+    private LongBloomFilter filter;
+    private LongBloomFilter rebuilding;
+    private final Map<Long, Boolean> recent;
+
+    private volatile boolean warmed;
+
+    private final Counter memoryDuplicates;
+    private final Counter dbDuplicates;
+
+    public DeliveryDeduplicator(ProcessedDeliveryRepository processedRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${smarteta.stats.dedup.expected-orders:10000000}") long expectedOrders,
+                                @Value("${smarteta.stats.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${smarteta.stats.dedup.recent-size:100000}") int recentSize,
+                                @Value("${smarteta.stats.dedup.retention-days:7}") int retentionDays,
+                                @Value("${smarteta.stats.dedup.cleanup-batch-size:10000}") int cleanupBatchSize) {
+        this.processedRepository = processedRepository;
+        this.expectedOrders = expectedOrders;
+        this.falsePositiveRate = falsePositiveRate;
+        this.retentionDays = retentionDays;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.filter = new LongBloomFilter(expectedOrders, falsePositiveRate);
+        this.recent = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > recentSize;
+            }
+        };
+
+        this.memoryDuplicates = duplicates(meterRegistry, "memory");
+        this.dbDuplicates = duplicates(meterRegistry, "db");
+    }
+
+    /**
+     * 주문의 배달 완료를 처리할 권한을 얻는 메서드 (트랜잭션 안에서 호출)
+     * @param orderId 주문 ID
+     * @return 처음 처리하는 주문이면 true, 이미 처리된 주문이면 false
+     */
+    public boolean claim(long orderId) {
+        synchronized (this) {
+            if (recent.containsKey(orderId)) {
+                memoryDuplicates.increment();
+                return false;
+            }
+        }
+
+        if (!processedRepository.markProcessed(orderId, LocalDateTime.now())) {
+            dbDuplicates.increment();
+            remember(List.of(orderId));
+            return false;
+        }
+        rememberAfterCommit(List.of(orderId));
+        return true;
+    }
+
+    /**
+     * 여러 주문의 배달 완료를 처리할 권한을 한 번에 얻는 메서드 (트랜잭션 안에서 호출)
+     * @param orderIds 주문 ID 목록 (같은 주문이 여러 번 있어도 됨)
+     * @return 처음 처리하는 주문 ID (입력 순서 유지, 중복 제거)
+     */
+    public Set<Long> claimAll(Collection<Long> orderIds) {
+        Set<Long> claimed = new LinkedHashSet<>();
+        List<Long> suspects = new ArrayList<>();
+        int skipped = 0;
+
+        // 1. 최근 처리한 주문과 배치 안의 중복 제거, DB 확인이 필요한 주문 고르기
+        synchronized (this) {
+            for (Long orderId : orderIds) {
+                if (recent.containsKey(orderId) || !claimed.add(orderId)) {
+                    skipped++;
+                    continue;
+                }
+                if (!warmed || filter.mightContain(orderId)) suspects.add(orderId);
+            }
+        }
+        memoryDuplicates.increment(skipped);
+
+        // 2. 처리했을 수 있는 주문만 DB로 확인
+        Set<Long> processed = processedRepository.findProcessed(suspects);
+        if (!processed.isEmpty()) {
+            claimed.removeAll(processed);
+            dbDuplicates.increment(processed.size());
+            remember(processed);
+        }
+
+        // 3. 나머지를 처리 표시 (이미 표시되어 있던 주문은 제외)
+        if (!claimed.isEmpty()) {
+            Set<Long> inserted = processedRepository.insertIgnoreAll(new ArrayList<>(claimed), LocalDateTime.now());
+            if (inserted.size() < claimed.size()) {
+                List<Long> existing = new ArrayList<>();
+                for (Long orderId : claimed) {
+                    if (!inserted.contains(orderId)) existing.add(orderId);
+                }
+                claimed.removeAll(existing);
+                dbDuplicates.increment(existing.size());
+                remember(existing);
+            }
+            rememberAfterCommit(new ArrayList<>(claimed));
+        }
+        return claimed;
+    }
+
+    /**
+     * 보관 기간 안의 처리 표시로 블룸 필터를 채우는 메서드 (애플리케이션 시작 시 한 번 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildFilter();
+    }
+
+    /**
+     * 보관 기간이 지난 처리 표시를 지우고, 블룸 필터가 예상 주문 수를 넘게 차 있으면 다시 만드는 메서드
+     */
+    @Scheduled(initialDelayString = "${smarteta.stats.dedup.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${smarteta.stats.dedup.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            int deleted;
+            do {
+                deleted = processedRepository.deleteOlderThan(before, cleanupBatchSize);
+            } while (deleted == cleanupBatchSize);
+
+            boolean saturated;
+            synchronized (this) {
+                saturated = filter.insertions() > expectedOrders;
+            }
+            if (saturated) rebuildFilter();
+        } catch (Exception e) {
+            log.error("배달 완료 처리 표시 정리 실패", e);
+        }
+    }
+
+    // DB에서 새 필터를 만드는 동안 처리된 주문은 기존 필터와 새 필터 양쪽에 넣고, 다 만들면 교체
+    private void rebuildFilter() {
+        LongBloomFilter next = new LongBloomFilter(expectedOrders, falsePositiveRate);
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try {
+            long[] loaded = {0};
+            processedRepository.forEachProcessedSince(LocalDateTime.now().minusDays(retentionDays), orderId -> {
+                synchronized (this) {
+                    next.put(orderId);
+                }
+                loaded[0]++;
+            });
+            synchronized (this) {
+                filter = next;
+            }
+            warmed = true;
+            log.info("배달 완료 중복 필터 생성 완료 - 처리 표시 수: {}", loaded[0]);
+        } catch (Exception e) {
+            log.error("배달 완료 중복 필터 생성 실패 - 모든 주문을 DB로 확인합니다.", e);
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private void rememberAfterCommit(Collection<Long> orderIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(orderIds);
+                }
+            });
+            return;
+        }
+        remember(orderIds);
+    }
+
+    private synchronized void remember(Collection<Long> orderIds) {
+        for (Long orderId : orderIds) {
+            filter.put(orderId);
+            if (rebuilding != null) rebuilding.put(orderId);
+            recent.put(orderId, Boolean.TRUE);
+        }
+    }
+
+    private static Counter duplicates(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("smarteta.delivery.duplicates")
+                .description("이미 처리된 주문이라 버린 배달 완료 이벤트 수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.stat.domain.StoreDelayDelta;
+import com.example.delivery.stat.dto.StoreRankingRow;
+import com.example.delivery.stat.repository.StoreDelaySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연률 기준 매장 순위를 메모리에 유지하는 인덱스
+ *
+ * - 통계가 갱신될 때마다 변화량을 반영하여 정렬 상태를 유지하므로, 순위 조회 시 DB 조회와 정렬이 필요 없음
+ * - 시작 시 DB의 StoreDelaySummary로 전체를 다시 만들고, 이후 주기적으로 DB와 다시 맞춤
+ *   (순위에 필요한 컬럼만 읽으며, 지연 시간 분포 스케치는 읽지 않음)
+ *   (다른 인스턴스가 반영한 통계나 롤백된 변화량을 바로잡기 위함)
+ *
+ * 다시 맞추는 동안 반영된 변화량을 DB 조회 결과로 덮어쓰지 않도록 순번으로 구분함
+ * - 변화량을 반영할 때마다 순번을 올리고 매장 항목에 기록
+ * - 조회 시작 뒤 순번이 바뀐 매장과, 커밋되지 않은 변화량이 있는 매장은 이번에 맞추지 않고 다음 주기로 넘김
+ * - 나머지 매장은 조회 결과로 바꾸고, 조회 결과에 없는 매장(통계가 지워졌거나 매장이 삭제됨)은 순위에서 뺌
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDelayRanking {
+
+    // 지연률 내림차순, 같으면 매장 ID 오름차순
+    private static final Comparator<Entry> RANKING_ORDER = Comparator
+            .comparingDouble(Entry::delayRate).reversed()
+            .thenComparing(Entry::storeId);
+
+    private final StoreDelaySummaryRepository summaryRepository;
+
+    // 정렬된 순위
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+
+    // 매장 ID별 현재 항목과 마지막으로 반영한 변화량의 순번 (순위에서 기존 항목을 찾아 제거하기 위함)
+    private final ConcurrentHashMap<Long, Slot> entries = new ConcurrentHashMap<>();
+
+    // 변화량을 반영할 때마다 증가하는 순번
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 매장 ID별로 트랜잭션이 끝나지 않은(커밋 후 반영될) 변화량 수
+    private final ConcurrentHashMap<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 매장의 통계 변화량을 순위에 반영하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영함
+     * @param delta 매장별 지연 통계 변화량
+     */
+    public void apply(StoreDelayDelta delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Long storeId = delta.getStoreId();
+            pending.merge(storeId, 1, Integer::sum);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(delta);
+                }
+
+                // 커밋이면 afterCommit에서 반영한 뒤에 호출되므로, 반영 전에 대기 표시가 사라지지 않음
+                @Override
+                public void afterCompletion(int status) {
+                    pending.computeIfPresent(storeId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            });
+            return;
+        }
+        applyNow(delta);
+    }
+
+    /**
+     * 순위의 일부를 반환하는 메서드
+     * @param offset 건너뛸 매장 수
+     * @param limit 반환할 최대 매장 수
+     * @return 지연률 내림차순으로 정렬된 매장 항목
+     */
+    public List<Entry> getRange(int offset, int limit) {
+        List<Entry> result = new ArrayList<>(Math.min(limit, entries.size()));
+        int index = 0;
+        for (Entry entry : ranking) {
+            if (result.size() >= limit) break;
+            if (index++ < offset) continue;
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * DB의 StoreDelaySummary로 순위를 다시 맞추는 메서드
+     * - 애플리케이션 시작 시 한 번 실행
+     * - 이후 smarteta.ranking.resync-interval-ms 주기로 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${smarteta.ranking.resync-interval-ms:300000}",
+            fixedDelayString = "${smarteta.ranking.resync-interval-ms:300000}")
+    public void rebuild() {
+        // 조회 전 순번: 이보다 큰 순번이 기록된 매장은 조회 결과에 그 변화량이 들어 있는지 알 수 없음
+        long startSequence = sequence.get();
+        List<StoreRankingRow> rows = summaryRepository.findAllRankingRows();
+
+        AtomicInteger deferred = new AtomicInteger();
+        Set<Long> storeIds = new HashSet<>(rows.size() * 2);
+        for (StoreRankingRow row : rows) {
+            storeIds.add(row.getStoreId());
+            Entry next = new Entry(row.getStoreId(), row.getStoreName(), row.getTotalOrders(),
+                    row.getDelayedOrders(), row.getTotalDelayMinutes());
+            entries.compute(row.getStoreId(), (storeId, current) -> {
+                if (changedSince(storeId, current, startSequence)) {
+                    deferred.incrementAndGet();
+                    return current;
+                }
+                return replace(current, new Slot(next, current == null ? 0 : current.sequence()));
+            });
+        }
+
+        // 조회 결과에 없는 매장 제거
+        int removed = 0;
+        for (Long storeId : entries.keySet()) {
+            if (storeIds.contains(storeId)) continue;
+            Slot remaining = entries.computeIfPresent(storeId, (id, current) -> {
+                if (changedSince(id, current, startSequence)) return current;
+                ranking.remove(current.entry());
+                return null;
+            });
+            if (remaining == null) removed++;
+        }
+
+        log.info("지연률 순위 인덱스 갱신 완료 - 매장 수: {}, 다음 주기로 넘긴 매장: {}, 제거한 매장: {}",
+                rows.size(), deferred.get(), removed);
+    }
+
+    private void applyNow(StoreDelayDelta delta) {
+        long applied = sequence.incrementAndGet();
+        entries.compute(delta.getStoreId(), (storeId, current) -> {
+            Entry next = current == null
+                    ? new Entry(storeId, delta.getStoreName(), delta.getNewOrders(),
+                            delta.getNewDelayed(), delta.getNewDelayMinutes())
+                    : current.entry().plus(delta);
+            return replace(current, new Slot(next, applied));
+        });
+    }
+
+    // 조회를 시작한 뒤 변화량이 반영됐거나, 커밋 후 반영될 변화량이 남아 있는 매장인지
+    private boolean changedSince(Long storeId, Slot current, long startSequence) {
+        return (current != null && current.sequence() > startSequence) || pending.containsKey(storeId);
+    }
+
+    // 같은 매장의 기존 항목을 순위에서 빼고 새 항목을 넣음 (ConcurrentHashMap.compute 안에서 매장별로 직렬화됨)
+    private Slot replace(Slot current, Slot next) {
+        if (current != null) ranking.remove(current.entry());
+        ranking.add(next.entry());
+        return next;
+    }
+
+    // 매장의 순위 항목과, 그 항목에 마지막으로 반영한 변화량의 순번
+    private record Slot(Entry entry, long sequence) {
+    }
+
+    /**
+     * 순위 인덱스의 매장 항목
+     * @param storeId 매장 ID
+     * @param storeName 매장 이름
+     * @param totalOrders 총 주문 수
+     * @param delayedOrders 지연된 주문 수
+     * @param totalDelayMinutes 총 지연 시간 (분)
+     * @param delayRate 지연률 (0~100)
+     */
+    public record Entry(Long storeId, String storeName, int totalOrders, int delayedOrders,
+                        long totalDelayMinutes, double delayRate) {
+
+        public Entry(Long storeId, String storeName, int totalOrders, int delayedOrders, long totalDelayMinutes) {
+            this(storeId, storeName, totalOrders, delayedOrders, totalDelayMinutes,
+                    totalOrders == 0 ? 0.0 : (double) delayedOrders / totalOrders * 100);
+        }
+
+        Entry plus(StoreDelayDelta delta) {
+            return new Entry(storeId, storeName != null ? storeName : delta.getStoreName(),
+                    totalOrders + delta.getNewOrders(), delayedOrders + delta.getNewDelayed(),
+                    totalDelayMinutes + delta.getNewDelayMinutes());
+        }
+    }
+}
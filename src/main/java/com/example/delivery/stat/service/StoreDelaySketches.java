@@ -0,0 +1,118 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.stat.domain.StoreDelaySketch;
+import com.example.delivery.stat.dto.DelayPercentiles;
+import com.example.delivery.stat.repository.StoreDelaySketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 지연 시간 분포 스케치를 갱신하고 백분위를 계산하는 컴포넌트
+ *
+ * - 배달 완료 주문의 지연 시간을 매장별 메모리 스케치에 기록
+ * - smarteta.stats.sketch.flush-interval-ms 주기로 store_delay_summary.delay_sketch에 병합 (행 잠금 후 읽고 씀)
+ * - 백분위는 저장된 스케치와 아직 병합되지 않은 메모리 스케치를 합쳐 계산하므로 orders 테이블을 읽지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDelaySketches {
+
+    private final StoreDelaySketchRepository sketchRepository;
+
+    // 아직 DB에 병합하지 않은 매장별 스케치
+    private final ConcurrentHashMap<Long, StoreDelaySketch> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 배달 완료된 주문들의 지연 시간을 스케치에 기록하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 기록함
+     * @param orders 배달 완료된 주문 목록
+     */
+    public void record(List<Order> orders) {
+        if (orders.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordNow(orders);
+                }
+            });
+            return;
+        }
+        recordNow(orders);
+    }
+
+    /**
+     * 매장의 p50 / p90 / p99 지연 시간을 계산하는 메서드
+     * @param storeId 매장 ID
+     * @param storedSketch StoreDelaySummary에 저장된 스케치
+     * @return 백분위 지연 시간
+     */
+    public DelayPercentiles percentiles(Long storeId, byte[] storedSketch) {
+        StoreDelaySketch sketch = StoreDelaySketch.decode(storedSketch);
+        // 같은 키의 기록과 병합은 ConcurrentHashMap에서 키 단위로 직렬화됨
+        pending.computeIfPresent(storeId, (id, unflushed) -> {
+            sketch.merge(unflushed);
+            return unflushed;
+        });
+        return sketch.percentiles();
+    }
+
+    /**
+     * 모아 둔 매장별 스케치를 store_delay_summary에 병합하는 메서드
+     * 실패하거나 매장 통계 행이 아직 없으면 다시 모아 두고 다음 주기에 재시도함
+     */
+    @Scheduled(initialDelayString = "${smarteta.stats.sketch.flush-interval-ms:60000}",
+            fixedDelayString = "${smarteta.stats.sketch.flush-interval-ms:60000}")
+    @PreDestroy
+    public void flush() {
+        int merged = 0;
+        for (Long storeId : pending.keySet()) {
+            StoreDelaySketch sketch = pending.remove(storeId);
+            if (sketch == null) continue;
+
+            boolean done = false;
+            try {
+                done = sketchRepository.merge(storeId, sketch);
+            } catch (Exception e) {
+                log.error("지연 시간 스케치 병합 실패 - 매장 ID: {}", storeId, e);
+            }
+
+            if (done) {
+                merged++;
+            } else {
+                pending.merge(storeId, sketch, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+            }
+        }
+        if (merged > 0) {
+            log.debug("지연 시간 스케치 병합 완료 - 매장 수: {}", merged);
+        }
+    }
+
+    private void recordNow(List<Order> orders) {
+        for (Order order : orders) {
+            if (order.getDeliveredAt() == null || order.getEta() == null) continue;
+
+            long delaySeconds = Duration.between(order.getEta(), order.getDeliveredAt()).toSeconds();
+            pending.compute(order.getStore().getId(), (storeId, sketch) -> {
+                if (sketch == null) sketch = new StoreDelaySketch();
+                sketch.record(delaySeconds);
+                return sketch;
+            });
+        }
+    }
+}
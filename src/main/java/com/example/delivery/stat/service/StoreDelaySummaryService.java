@@ -2,21 +2,24 @@ package com.example.delivery.stat.service;
 
 import com.example.delivery.order.domain.Order;
 import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.stat.domain.StoreDelayDelta;
 import com.example.delivery.stat.domain.StoreDelaySummary;
 import com.example.delivery.stat.dto.StoreDelaySummaryResponse;
 import com.example.delivery.stat.repository.StoreDelaySummaryRepository;
+import com.example.delivery.stat.repository.StoreStatCheckpointRepository;
 import com.example.delivery.store.domain.Store;
-import com.example.delivery.store.repository.StoreRepository;
+import com.example.delivery.store.service.StoreCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +27,11 @@ public class StoreDelaySummaryService {
 
     private final StoreDelaySummaryRepository summaryRepository;
     private final OrderRepository orderRepository;
-    private final StoreRepository storeRepository;
+    private final StoreCache storeCache;
+    private final StoreStatCheckpointRepository checkpointRepository;
+    private final StoreDelayRanking ranking;
+    private final StoreDelayWindows windows;
+    private final StoreDelaySketches sketches;
 
     /**
      * 특정 매장의 지연 통계를 갱신하는 메서드
@@ -45,7 +52,7 @@ public class StoreDelaySummaryService {
      */
     public void updateDelayStats(Long storeId) {
         // 1. 매장 정보 조회
-        Optional<Store> optionalStore = storeRepository.findById(storeId);
+        Optional<Store> optionalStore = storeCache.get(storeId);
         if (optionalStore.isEmpty()) {
             throw new RuntimeException("매장을 찾을 수 없습니다.");
         }
@@ -93,92 +100,117 @@ public class StoreDelaySummaryService {
             }
         }
 
-        // 6. 통계 정보 업데이트 및 DB 저장
-        summary.updateStats(newOrders, newDelayed, newDelayMinutes, lastTime);
-        summaryRepository.save(summary);
+        // 6. 통계 정보를 DB에서 원자적으로 누적
+        applyDelta(StoreDelayDelta.of(storeId, store.getName(), newOrders, newDelayed, newDelayMinutes, lastTime));
     }
 
     /**
      * 배달 완료된 주문을 기반으로 해당 매장의 지연 통계를 갱신하는 메서드
      * 처리 로직:
      * 1. 주문에서 매장 정보를 추출
-     * 2. 해당 매장의 지연 통계(StoreDelaySummary)를 조회하거나 없으면 새로 생성
-     * 3. 해당 주문이 지연되었는지 판단하고 통계 수치 계산
+     * 2. 해당 주문이 지연되었는지 판단하고 통계 수치 계산
      *    - 총 주문 수 +1
      *    - 지연 주문 수 +1 (지연 시)
      *    - 총 지연 시간 추가
      *    - 마지막 분석 시각 갱신
-     * 4. 갱신된 통계를 저장
+     * 3. 통계 행이 없으면 생성하고, 있으면 DB에서 원자적으로 누적 (조회 없이 한 번의 쿼리)
+     * 4. 최근 1시간 / 24시간 / 7일 구간 통계와 지연 시간 분포 스케치에 반영
      *
      * @param order 배달 완료된 주문
      */
     public void processCompletedOrder(Order order) {
         Store store = order.getStore();
-        Long storeId = store.getId();
 
-        // StoreDelaySummary를 가져오거나 없으면 초기 값으로 생성
-        Optional<StoreDelaySummary> optionalSummary = summaryRepository.findById(storeId);
-        StoreDelaySummary summary = optionalSummary.orElse(
-                StoreDelaySummary.builder()
-                        .storeId(storeId)
-                        .storeName(store.getName()) // 매장 이름 저장
-                        .totalOrders(0)
-                        .delayedOrders(0)
-                        .totalDelayMinutes(0)
-                        .lastAnalyzedAt(LocalDateTime.MIN) // 초기값으로 설정
-                        .build()
-        );
+        StoreDelayDelta delta = new StoreDelayDelta(store.getId(), store.getName());
+        delta.add(order);
 
-        // 신규 통계 수치 계산
-        int newOrders = 1;
-        int newDelayed = order.isDelayed() ? 1 : 0;
-        long delayMinutes = order.isDelayed()
-                ? Duration.between(order.getEta(), order.getDeliveredAt()).toMinutes()
-                : 0;
-        LocalDateTime lastTime = order.getDeliveredAt();
+        applyDelta(delta);
+        windows.record(List.of(order));
+        sketches.record(List.of(order));
+    }
 
-        // 통계 정보 갱신
-        summary.updateStats(newOrders, newDelayed, delayMinutes, lastTime);
+    /**
+     * 한 번에 수신한 배달 완료 주문들을 매장별로 모아 지연 통계를 갱신하는 메서드
+     * 처리 로직:
+     * 1. 주문들을 매장 ID 기준으로 StoreDelayDelta에 누적
+     * 2. 매장별 변화량을 매장당 한 번의 쿼리로 DB에 누적
+     *    - 호출한 스레드에서 호출한 쪽의 트랜잭션에 참여하여 반영하므로, 리스너가 롤백하면 통계 누적도 함께 롤백됨
+     *    - 매장 ID 오름차순으로 반영하여 여러 컨슈머 스레드가 같은 매장들을 갱신해도 행 잠금 순서가 같음 (교착 상태 방지)
+     * 3. 순위 인덱스, 최근 1시간 / 24시간 / 7일 구간 통계, 지연 시간 분포 스케치에 반영 (커밋 후)
+     *
+     * @param orders 배달 완료된 주문 목록
+     */
+    public void processCompletedOrders(List<Order> orders) {
+        if (orders.isEmpty()) return;
+
+        // 1. 매장별 변화량 누적 (매장 ID 순)
+        Map<Long, StoreDelayDelta> deltas = new TreeMap<>();
+        for (Order order : orders) {
+            Store store = order.getStore();
+            deltas.computeIfAbsent(store.getId(), id -> new StoreDelayDelta(id, store.getName()))
+                    .add(order);
+        }
+
+        // 2. 매장별 통계 갱신
+        for (StoreDelayDelta delta : deltas.values()) {
+            applyDelta(delta);
+        }
 
-        // DB 저장
-        summaryRepository.save(summary);
+        // 3. 최근 구간 통계, 지연 시간 분포 스케치 반영 (커밋 후)
+        windows.record(orders);
+        sketches.record(orders);
+    }
+
+    /**
+     * 매장 하나의 변화량을 지연 통계에 반영하는 메서드
+     * 트랜잭션 안에서 호출되면 순위 인덱스는 커밋된 뒤에 반영됨
+     * @param delta 매장별 지연 통계 변화량
+     */
+    private void applyDelta(StoreDelayDelta delta) {
+        summaryRepository.upsertStats(delta.getStoreId(), delta.getStoreName(), delta.getNewOrders(),
+                delta.getNewDelayed(), delta.getNewDelayMinutes(), delta.getLastDeliveredAt());
+        ranking.apply(delta);
     }
 
     /**
      * 지연률 기준으로 매장을 순위화하여 반환하는 메서드
-     * 각 StoreDelaySummary 엔티티를 DTO로 변환하고, 지연률(delayRate)이 높은 순으로 정렬하여 리스트로 반환
      * @return 지연률 기준 정렬된 매장 통계 리스트
      */
     public List<StoreDelaySummaryResponse> getStoreRanking() {
-        List<StoreDelaySummary> summaries = summaryRepository.findAll();
+        return getStoreRanking(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 지연률 기준 매장 순위 중 일부를 반환하는 메서드
+     * 메모리의 순위 인덱스(StoreDelayRanking)에서 바로 읽으므로 DB 조회와 정렬이 없음
+     * @param offset 건너뛸 매장 수
+     * @param limit 반환할 최대 매장 수
+     * @return 지연률 기준 정렬된 매장 통계 리스트
+     */
+    public List<StoreDelaySummaryResponse> getStoreRanking(int offset, int limit) {
         List<StoreDelaySummaryResponse> responseList = new ArrayList<>();
 
-        for (StoreDelaySummary summary : summaries) {
+        for (StoreDelayRanking.Entry entry : ranking.getRange(Math.max(offset, 0), Math.max(limit, 0))) {
             StoreDelaySummaryResponse response = StoreDelaySummaryResponse.builder()
-                    .storeId(summary.getStoreId())
-                    .storeName(summary.getStoreName())
-                    .totalOrders(summary.getTotalOrders())
-                    .delayedOrders(summary.getDelayedOrders())
-                    .totalDelayMinutes(summary.getTotalDelayMinutes())
-                    .delayRate(summary.calculateDelayRate())
+                    .storeId(entry.storeId())
+                    .storeName(entry.storeName())
+                    .totalOrders(entry.totalOrders())
+                    .delayedOrders(entry.delayedOrders())
+                    .totalDelayMinutes(entry.totalDelayMinutes())
+                    .delayRate(entry.delayRate())
+                    .recent(windows.get(entry.storeId()))
                     .build();
 
             responseList.add(response);
         }
 
-        // delayRate 기준으로 내림차순 정렬
-        responseList.sort(new Comparator<StoreDelaySummaryResponse>() {
-            @Override
-            public int compare(StoreDelaySummaryResponse o1, StoreDelaySummaryResponse o2) {
-                return Double.compare(o2.getDelayRate(), o1.getDelayRate());
-            }
-        });
-
         return responseList;
     }
 
     /**
      * 특정 매장의 지연 통계를 조회하는 메서드
+     * 누적 통계와 함께 최근 1시간 / 24시간 / 7일 통계를 메모리에서 바로 읽어 반환함
+     * p50 / p90 / p99 지연 시간은 통계 행에 저장된 스케치로 계산함 (주문 테이블을 읽지 않음)
      * @param storeId 매장 ID
      * @return 해당 매장의 지연 통계 DTO
      */
@@ -193,12 +225,15 @@ public class StoreDelaySummaryService {
                 .delayedOrders(summary.getDelayedOrders())
                 .totalDelayMinutes(summary.getTotalDelayMinutes())
                 .delayRate(summary.calculateDelayRate())
+                .recent(windows.get(storeId))
+                .delayPercentiles(sketches.percentiles(storeId, summary.getDelaySketch()))
                 .build();
     }
 
     /**
      * 주어진 매장의 하루 지연 통계를 누적 반영하는 메서드
      * - 하루 동안의 완료된 주문 수, 지연된 주문 수, 지연 시간 합 등을 누적 저장
+     * - 통계가 없던 매장은 새로 생성됨
      *
      * @param storeId        매장 ID
      * @param newOrders      하루 동안 완료된 총 주문 수
@@ -207,17 +242,32 @@ public class StoreDelaySummaryService {
      * @param analyzedAt     분석 기준이 되는 마지막 주문 시각
      */
     public void update(Long storeId, int newOrders, int newDelayed, long newDelayMinutes, LocalDateTime analyzedAt) {
-        // 기존 통계를 조회
-        StoreDelaySummary summary = summaryRepository.findByStoreId(storeId).orElse(null);
-
-        // 없으면 오류 발생
-        if (summary == null) throw new RuntimeException("통계를 찾을 수 없습니다.");
+        // 통계 행이 없으면 생성, 있으면 DB에서 원자적으로 누적
+        String storeName = storeCache.get(storeId).map(Store::getName).orElse(null);
+        applyDelta(StoreDelayDelta.of(storeId, storeName, newOrders, newDelayed, newDelayMinutes, analyzedAt));
+    }
 
-        // 누적 통계 업데이트
-        summary.updateStats(newOrders, newDelayed, newDelayMinutes, analyzedAt);
+    /**
+     * 하루 치 매장 지연 통계를 체크포인트와 함께 한 번만 반영하는 메서드
+     * - 체크포인트 기록과 통계 누적을 같은 트랜잭션으로 처리하므로, 중간에 실패해도 둘 다 반영되지 않음
+     * - 이미 체크포인트가 있는 매장은 건너뛰므로, 스케줄러를 다시 실행해도 중복 누적되지 않음
+     *
+     * @param statDate        통계 대상 날짜
+     * @param storeId         매장 ID
+     * @param newOrders       하루 동안 완료된 총 주문 수
+     * @param newDelayed      지연된 주문 수
+     * @param newDelayMinutes 지연된 주문들의 총 지연 시간 (분 단위 합)
+     * @param analyzedAt      분석 기준이 되는 마지막 주문 시각
+     * @return 이번 호출에서 반영했으면 true, 이미 반영된 매장이면 false
+     */
+    @Transactional
+    public boolean applyDailyStats(LocalDate statDate, Long storeId, int newOrders, int newDelayed,
+                                   long newDelayMinutes, LocalDateTime analyzedAt) {
+        // 이미 반영된 매장이면 건너뜀
+        if (checkpointRepository.insertIfAbsent(statDate, storeId, LocalDateTime.now()) == 0) return false;
 
-        // 저장
-        summaryRepository.save(summary);
+        update(storeId, newOrders, newDelayed, newDelayMinutes, analyzedAt);
+        return true;
     }
 
 }
@@ -0,0 +1,187 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.stat.domain.StoreDelayHourly;
+import com.example.delivery.stat.domain.StoreDelayWindow;
+import com.example.delivery.stat.dto.RecentDelayStats;
+import com.example.delivery.stat.repository.StoreDelayHourlyBulkRepository;
+import com.example.delivery.stat.repository.StoreDelayHourlyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 최근 1시간 / 24시간 / 7일 지연 통계를 메모리에 유지하는 컴포넌트
+ *
+ * - 배달 완료 이벤트마다 매장의 StoreDelayWindow 버킷에 누적하므로, 조회 시 orders 테이블을 다시 읽지 않음
+ * - 시간 버킷 변화량은 모아 두었다가 smarteta.stats.window.flush-interval-ms 주기로 store_delay_hourly에 한 번에 누적
+ * - 시작 시 store_delay_hourly의 최근 7일 버킷으로 24시간 / 7일 구간을 복원 (분 버킷인 최근 1시간 구간은 새로 쌓임)
+ *
+ * 시각은 LocalDateTime 그대로(벽시계 기준) 분/시간 번호로 바꿔 다룸
+ * 버킷은 현재 시각 기준으로 옮기고, 현재 시각보다 늦은 배달 완료 시각은
+ * smarteta.stats.window.max-clock-skew-minutes 이내면 현재 분으로 맞추고, 그보다 늦으면 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDelayWindows {
+
+    private final StoreDelayHourlyRepository hourlyRepository;
+    private final StoreDelayHourlyBulkRepository hourlyBulkRepository;
+
+    @Value("${smarteta.stats.window.retention-days:8}")
+    private int retentionDays;
+
+    @Value("${smarteta.stats.window.max-clock-skew-minutes:5}")
+    private long maxClockSkewMinutes;
+
+    // 매장 ID별 구간 통계
+    private final ConcurrentHashMap<Long, StoreDelayWindow> windows = new ConcurrentHashMap<>();
+
+    // 아직 DB에 누적하지 않은 시간 버킷 변화량 (주문 수, 지연 주문 수, 지연 시간 합)
+    private final ConcurrentHashMap<HourKey, long[]> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 배달 완료된 주문들을 구간 통계에 반영하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영함
+     * @param orders 배달 완료된 주문 목록
+     */
+    public void record(List<Order> orders) {
+        if (orders.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordNow(orders);
+                }
+            });
+            return;
+        }
+        recordNow(orders);
+    }
+
+    /**
+     * 매장의 최근 1시간 / 24시간 / 7일 지연 통계를 반환하는 메서드
+     * @param storeId 매장 ID
+     * @return 구간별 지연 통계 (기록이 없으면 빈 통계)
+     */
+    public RecentDelayStats get(Long storeId) {
+        StoreDelayWindow window = windows.get(storeId);
+        if (window == null) return RecentDelayStats.EMPTY;
+
+        long now = epochMinute(LocalDateTime.now());
+        return new RecentDelayStats(window.lastHour(now), window.lastDay(now), window.lastWeek(now));
+    }
+
+    /**
+     * 모아 둔 시간 버킷 변화량을 store_delay_hourly에 누적하고, 보관 기간이 지난 버킷을 지우는 메서드
+     * 실패하면 변화량을 다시 모아 두고 다음 주기에 재시도함
+     */
+    @Scheduled(initialDelayString = "${smarteta.stats.window.flush-interval-ms:60000}",
+            fixedDelayString = "${smarteta.stats.window.flush-interval-ms:60000}")
+    @PreDestroy
+    public void flush() {
+        List<StoreDelayHourly> deltas = new ArrayList<>(pending.size());
+        for (HourKey key : pending.keySet()) {
+            long[] counts = pending.remove(key);
+            if (counts == null) continue;
+            deltas.add(StoreDelayHourly.builder()
+                    .storeId(key.storeId())
+                    .bucketHour(LocalDateTime.ofEpochSecond(key.epochHour() * 3600, 0, ZoneOffset.UTC))
+                    .totalOrders((int) counts[0])
+                    .delayedOrders((int) counts[1])
+                    .totalDelayMinutes(counts[2])
+                    .build());
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                hourlyBulkRepository.upsertAll(deltas);
+            }
+            hourlyRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        } catch (Exception e) {
+            log.error("시간 단위 지연 통계 저장 실패 - 버킷 수: {}", deltas.size(), e);
+            for (StoreDelayHourly delta : deltas) {
+                addPending(delta.getStoreId(), epochHour(delta.getBucketHour()),
+                        delta.getTotalOrders(), delta.getDelayedOrders(), delta.getTotalDelayMinutes());
+            }
+        }
+    }
+
+    /**
+     * store_delay_hourly의 최근 7일 버킷으로 24시간 / 7일 구간을 복원하는 메서드 (애플리케이션 시작 시 한 번 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDateTime from = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0)
+                .minusHours(StoreDelayWindow.HOUR_BUCKETS - 1);
+        long nowHour = epochHour(LocalDateTime.now());
+        List<StoreDelayHourly> buckets = hourlyRepository.findByBucketHourGreaterThanEqualOrderByBucketHourAsc(from);
+        for (StoreDelayHourly bucket : buckets) {
+            // 현재 시각보다 늦은 버킷은 가장 최근 버킷을 미래로 옮기므로 복원하지 않음
+            if (epochHour(bucket.getBucketHour()) > nowHour) continue;
+            windows.computeIfAbsent(bucket.getStoreId(), id -> new StoreDelayWindow())
+                    .addHour(epochHour(bucket.getBucketHour()), bucket.getTotalOrders(),
+                            bucket.getDelayedOrders(), bucket.getTotalDelayMinutes());
+        }
+        log.info("매장 구간 지연 통계 복원 완료 - 시간 버킷 수: {}", buckets.size());
+    }
+
+    private void recordNow(List<Order> orders) {
+        long now = epochMinute(LocalDateTime.now());
+        for (Order order : orders) {
+            if (order.getDeliveredAt() == null) continue;
+
+            Long storeId = order.getStore().getId();
+            long minute = epochMinute(order.getDeliveredAt());
+            if (minute > now + maxClockSkewMinutes) {
+                log.warn("배달 완료 시각이 현재보다 늦어 구간 통계에서 제외 - 주문 ID: {}, 배달 완료 시각: {}",
+                        order.getId(), order.getDeliveredAt());
+                continue;
+            }
+            minute = Math.min(minute, now);
+            int delayed = order.isDelayed() ? 1 : 0;
+            long delayMinutes = order.getDelayMinutes();
+
+            windows.computeIfAbsent(storeId, id -> new StoreDelayWindow())
+                    .add(now, minute, 1, delayed, delayMinutes);
+            addPending(storeId, Math.floorDiv(minute, 60), 1, delayed, delayMinutes);
+        }
+    }
+
+    // 같은 키의 누적과 flush의 remove는 ConcurrentHashMap에서 키 단위로 직렬화됨
+    private void addPending(Long storeId, long epochHour, int orders, int delayed, long delayMinutes) {
+        pending.compute(new HourKey(storeId, epochHour), (key, counts) -> {
+            if (counts == null) counts = new long[3];
+            counts[0] += orders;
+            counts[1] += delayed;
+            counts[2] += delayMinutes;
+            return counts;
+        });
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long epochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private record HourKey(Long storeId, long epochHour) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.delivery.store.domain;
+
+import com.example.delivery.store.service.StoreCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 매장이 수정/삭제되면 매장 캐시를 무효화하는 JPA 엔티티 리스너
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 StoreCache를 주입받을 수 있음
+ */
+public class StoreEntityListener {
+
+    private final ObjectProvider<StoreCache> storeCache;
+
+    public StoreEntityListener(ObjectProvider<StoreCache> storeCache) {
+        this.storeCache = storeCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void invalidate(Store store) {
+        storeCache.ifAvailable(cache -> cache.invalidate(store.getId()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.delivery.store.service;
+
+import com.example.delivery.store.domain.Store;
+import com.example.delivery.store.repository.StoreRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 매장 정보 캐시
+ *
+ * - 매장 정보는 거의 바뀌지 않으므로, 주문 생성/통계 갱신 때마다 store 테이블을 조회하지 않도록 메모리에 보관
+ * - 최대 크기를 넘으면 오래 쓰이지 않은 매장부터 제거하고, 다른 인스턴스에서 바뀐 정보를 반영하기 위해 일정 시간 후 만료
+ * - 이 인스턴스에서 매장이 수정/삭제되면 StoreEntityListener가 바로 무효화
+ * - 적중/미스 통계는 cache.gets, cache.evictions 등의 메트릭(cache=store)으로 노출
+ */
+@Component
+public class StoreCache {
+
+    private final StoreRepository storeRepository;
+    private final Cache<Long, Store> cache;
+
+    public StoreCache(StoreRepository storeRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${smarteta.store-cache.max-size:10000}") long maxSize,
+                      @Value("${smarteta.store-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.storeRepository = storeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "store");
+    }
+
+    /**
+     * 매장 정보를 조회하는 메서드
+     * 캐시에 없을 때만 DB를 조회하며, 존재하지 않는 매장은 캐시하지 않음
+     * @param storeId 매장 ID
+     * @return 매장 정보
+     */
+    public Optional<Store> get(Long storeId) {
+        return Optional.ofNullable(cache.get(storeId, id -> storeRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 여러 매장 정보를 한 번에 조회하는 메서드
+     * 캐시에 없는 매장들만 모아 한 번의 쿼리로 조회하며, 존재하지 않는 매장은 결과에서 빠짐
+     * @param storeIds 매장 ID 목록
+     * @return 매장 ID별 매장 정보
+     */
+    public Map<Long, Store> getAll(Collection<Long> storeIds) {
+        return cache.getAll(storeIds, missing -> {
+            Map<Long, Store> loaded = new HashMap<>();
+            for (Store store : storeRepository.findAllById(new ArrayList<Long>(missing))) {
+                loaded.put(store.getId(), store);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 특정 매장의 캐시를 무효화하는 메서드
+     * @param storeId 매장 ID
+     */
+    public void invalidate(Long storeId) {
+        cache.invalidate(storeId);
+    }
+
+    /**
+     * 전체 매장 캐시를 무효화하는 메서드
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
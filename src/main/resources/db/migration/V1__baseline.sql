@@ -0,0 +1,81 @@
+-- 엔티티 기준 초기 스키마 (이전에는 Hibernate auto-DDL로 생성)
+-- 이미 auto-DDL로 만들어진 DB는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뜀
+-- orders는 V3에서 파티션 테이블이 되므로 orders와 관련된 외래 키는 만들지 않음
+
+CREATE TABLE store (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    name               VARCHAR(255),
+    avg_prep_minutes   INT          NOT NULL,
+    address            VARCHAR(255),
+    latitude           DOUBLE       NOT NULL,
+    longitude          DOUBLE       NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE orders (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT,
+    store_id      BIGINT,
+    distance_km   DOUBLE      NOT NULL,
+    created_at    DATETIME(6),
+    eta           DATETIME(6),
+    delivered_at  DATETIME(6),
+    status        VARCHAR(20),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE eta_history (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    order_id      BIGINT,
+    previous_eta  DATETIME(6),
+    new_eta       DATETIME(6),
+    reason        VARCHAR(255),
+    adjusted_at   DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_eta_history_order (order_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE eta_correction (
+    store_id            BIGINT  NOT NULL,
+    hour_of_week        INT     NOT NULL,
+    correction_minutes  DOUBLE  NOT NULL,
+    updated_at          DATETIME(6),
+    PRIMARY KEY (store_id, hour_of_week)
+) ENGINE = InnoDB;
+
+CREATE TABLE store_delay_summary (
+    store_id             BIGINT  NOT NULL,
+    store_name           VARCHAR(255),
+    total_orders         INT     NOT NULL,
+    delayed_orders       INT     NOT NULL,
+    total_delay_minutes  BIGINT  NOT NULL,
+    last_analyzed_at     DATETIME(6),
+    delay_sketch         MEDIUMBLOB,
+    PRIMARY KEY (store_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE store_stat_checkpoint (
+    stat_date     DATE    NOT NULL,
+    store_id      BIGINT  NOT NULL,
+    completed_at  DATETIME(6),
+    PRIMARY KEY (stat_date, store_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE store_delay_hourly (
+    store_id             BIGINT       NOT NULL,
+    bucket_hour          DATETIME(6)  NOT NULL,
+    total_orders         INT          NOT NULL,
+    delayed_orders       INT          NOT NULL,
+    total_delay_minutes  BIGINT       NOT NULL,
+    PRIMARY KEY (store_id, bucket_hour),
+    INDEX idx_store_delay_hourly_bucket (bucket_hour)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_event (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    topic       VARCHAR(255),
+    event_type  VARCHAR(30),
+    payload     TEXT,
+    created_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
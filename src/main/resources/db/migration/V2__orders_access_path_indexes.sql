@@ -0,0 +1,10 @@
+-- 주문 조회 경로별 복합 인덱스
+-- 매장 단위 조회: findByStoreIdAndDeliveredAtAfter, 매장의 배달되지 않은 주문 잠금/연장 (store_id = ? AND delivered_at ...)
+CREATE INDEX idx_orders_store_delivered ON orders (store_id, delivered_at);
+
+-- 기간 단위 조회: findByDeliveredAtBetween, aggregateDelayStatsByStore, 아카이브 대상 조회, 진행 중 주문 인덱스 생성 (delivered_at IS NULL)
+-- 집계 쿼리가 테이블을 읽지 않도록 store_id, eta 까지 포함
+CREATE INDEX idx_orders_delivered ON orders (delivered_at, store_id, eta);
+
+-- 매장의 최근 주문 조회: findByStoreAndCreatedAtAfter
+CREATE INDEX idx_orders_store_created ON orders (store_id, created_at);
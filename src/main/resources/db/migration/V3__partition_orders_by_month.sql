@@ -0,0 +1,39 @@
+-- orders를 주문 시각(created_at) 기준 월별 RANGE 파티션으로 변경
+--
+-- 파티션 키는 모든 유니크 키(PK 포함)에 들어가야 하는데, delivered_at은 배달 전에는 NULL이라 PK에 넣을 수 없고
+-- 배달 완료 시 값이 바뀌어 행이 파티션 사이를 옮겨 다니게 됨
+-- created_at은 저장 후 바뀌지 않고 delivered_at과 보통 몇 시간 이내로 차이나므로 파티션 키로 사용
+-- 이후 월 파티션은 OrderArchiver가 미리 만들고, 아카이브가 끝나 비어 있는 오래된 파티션은 지움
+--
+-- 파티션 테이블은 외래 키를 가질 수도, 참조될 수도 없으므로 auto-DDL이 만든 외래 키를 먼저 제거
+
+-- orders → store 외래 키 제거
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+            WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE orders DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- eta_history → orders 외래 키 제거
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+            WHERE CONSTRAINT_SCHEMA = DATABASE() AND REFERENCED_TABLE_NAME = 'orders' LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE eta_history DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 파티션 키를 PK에 포함
+UPDATE orders SET created_at = COALESCE(eta, NOW(6)) WHERE created_at IS NULL;
+ALTER TABLE orders
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE orders PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_history VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610   VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611   VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612   VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_future  VALUES LESS THAN (MAXVALUE)
+);
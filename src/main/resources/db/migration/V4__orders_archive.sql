@@ -0,0 +1,13 @@
+-- 보관 기간이 지난 배달 완료 주문을 옮겨 두는 아카이브 테이블 (OrderArchiver가 배치로 이동)
+-- 통계 재계산에 필요한 컬럼만 남기고(배달 완료된 주문만 옮기므로 status는 제외), 압축 행 형식으로 저장
+CREATE TABLE orders_archive (
+    id            BIGINT       NOT NULL,
+    user_id       BIGINT,
+    store_id      BIGINT       NOT NULL,
+    distance_km   DOUBLE       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    eta           DATETIME(6),
+    delivered_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_orders_archive_store_delivered (store_id, delivered_at)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,7 @@
+-- 배달 완료 이벤트를 지연 통계에 반영한 주문 표시 (DeliveryDeduplicator가 기록, retention-days 이후 삭제)
+CREATE TABLE processed_delivery (
+    order_id      BIGINT       NOT NULL,
+    processed_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (order_id),
+    INDEX idx_processed_delivery_processed_at (processed_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- 배치로 처리 표시한 호출 식별자 (드라이버가 행별 결과를 주지 않을 때 이번 호출이 새로 표시한 행을 다시 찾기 위함, 단건 표시는 0)
+ALTER TABLE processed_delivery
+    ADD COLUMN claim_id BIGINT NOT NULL DEFAULT 0;
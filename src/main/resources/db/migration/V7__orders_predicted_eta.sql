@@ -0,0 +1,10 @@
+-- 주문 시 처음 계산된 ETA (이후 매장 연장 / 조리 완료로 eta가 바뀌어도 그대로 둠)
+-- ETA 보정 모델은 이 값 대비 실제 도착 시각의 오차로 학습함
+ALTER TABLE orders ADD COLUMN predicted_eta DATETIME(6) NULL AFTER eta;
+
+-- 배달되지 않은 주문만 채움: ETA가 바뀐 적 있으면 첫 변경 이력의 변경 전 ETA, 없으면 현재 ETA
+UPDATE orders o
+SET o.predicted_eta = COALESCE(
+        (SELECT h.previous_eta FROM eta_history h WHERE h.order_id = o.id ORDER BY h.id LIMIT 1),
+        o.eta)
+WHERE o.delivered_at IS NULL;
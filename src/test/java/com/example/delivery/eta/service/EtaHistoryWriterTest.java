@@ -0,0 +1,68 @@
+package com.example.delivery.eta.service;
+
+import com.example.delivery.eta.domain.EtaChangeReason;
+import com.example.delivery.eta.dto.EtaChange;
+import com.example.delivery.eta.repository.EtaHistoryBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class EtaHistoryWriterTest {
+
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final LocalDateTime ETA = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EtaHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (writer != null) writer.destroy();
+    }
+
+    @Test
+    void fullBufferBlocksBatchForOneTimeoutOnly() throws InterruptedException {
+        EtaHistoryBulkRepository repository = mock(EtaHistoryBulkRepository.class);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(repository).insertAll(any());
+        writer = new EtaHistoryWriter(repository, meterRegistry, 1, 1, 10, OFFER_TIMEOUT_MS, 1_000);
+
+        // 기록 스레드는 첫 이력 저장에서 멈추고, 두 번째 이력이 버퍼(크기 1)를 채움
+        writer.record(change(1));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record(change(2));
+
+        List<EtaChange> changes = new ArrayList<>();
+        for (long orderId = 3; orderId < 53; orderId++) changes.add(change(orderId));
+
+        long start = System.nanoTime();
+        writer.recordAll(changes);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 건별로 기다리면 50 x 100ms = 5초
+        assertThat(elapsedMs).isBetween(OFFER_TIMEOUT_MS - 10, OFFER_TIMEOUT_MS * 5);
+        assertThat(meterRegistry.counter("smarteta.eta.history.dropped", "cause", "buffer_full").count())
+                .isEqualTo(50);
+    }
+
+    private static EtaChange change(long orderId) {
+        return new EtaChange(orderId, ETA, ETA.plusMinutes(10), EtaChangeReason.STORE_EXTENSION, ETA);
+    }
+}
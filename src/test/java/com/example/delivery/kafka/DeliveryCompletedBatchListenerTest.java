@@ -0,0 +1,238 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.order.service.ActiveOrderIndex;
+import com.example.delivery.stat.repository.ProcessedDeliveryRepository;
+import com.example.delivery.stat.repository.StoreDelaySummaryRepository;
+import com.example.delivery.stat.repository.StoreStatCheckpointRepository;
+import com.example.delivery.stat.service.DeliveryDeduplicator;
+import com.example.delivery.stat.service.StoreDelayRanking;
+import com.example.delivery.stat.service.StoreDelaySketches;
+import com.example.delivery.stat.service.StoreDelaySummaryService;
+import com.example.delivery.stat.service.StoreDelayWindows;
+import com.example.delivery.store.domain.Store;
+import com.example.delivery.store.service.StoreCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배치 안의 처리 불가능한 이벤트 하나 때문에 배치가 롤백되고 재시도 토픽에서 한 건씩 다시 처리될 때,
+ * 나머지 이벤트가 지연 통계에 정확히 한 번만 반영되는지 확인
+ *
+ * DB는 트랜잭션 커밋 시에만 반영되는 메모리 저장소로 대신함
+ */
+class DeliveryCompletedBatchListenerTest {
+
+    private static final long POISON_STORE_ID = 9L;
+    private static final LocalDateTime ETA = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private BufferingTransactionManager transactionManager;
+
+    // 커밋된 매장별 주문 수와 처리 표시
+    private final Map<Long, Integer> committedOrders = new HashMap<>();
+    private final Set<Long> committedProcessed = new HashSet<>();
+
+    private final Map<Long, Order> orders = new HashMap<>();
+    private DeliveryRetryPublisher retryPublisher;
+    private DeliveryCompletedBatchListener listener;
+    private DeliveryCompletionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new BufferingTransactionManager();
+
+        ProcessedDeliveryRepository processedRepository = processedRepository();
+        StoreDelaySummaryRepository summaryRepository = summaryRepository();
+        OrderRepository orderRepository = orderRepository();
+
+        DeliveryDeduplicator deduplicator = new DeliveryDeduplicator(processedRepository, new SimpleMeterRegistry(),
+                1_000, 0.01, 100, 7, 100);
+        StoreDelaySummaryService summaryService = new StoreDelaySummaryService(summaryRepository, orderRepository,
+                mock(StoreCache.class), mock(StoreStatCheckpointRepository.class),
+                new StoreDelayRanking(summaryRepository), mock(StoreDelayWindows.class), mock(StoreDelaySketches.class));
+        DeliveryPipelineMetrics metrics = mock(DeliveryPipelineMetrics.class);
+        EtaCorrectionModel etaCorrectionModel = mock(EtaCorrectionModel.class);
+        ActiveOrderIndex activeOrderIndex = mock(ActiveOrderIndex.class);
+        retryPublisher = mock(DeliveryRetryPublisher.class);
+
+        listener = transactional(new DeliveryCompletedBatchListener(orderRepository, summaryService, metrics,
+                etaCorrectionModel, activeOrderIndex, deduplicator, retryPublisher));
+        handler = transactional(new DeliveryCompletionHandler(orderRepository, summaryService, metrics,
+                etaCorrectionModel, activeOrderIndex, deduplicator));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void poisonRecordIsIsolatedAndHealthyRecordsAreCountedOnce() {
+        Store s1 = store(1L);
+        Store s2 = store(2L);
+        Store poison = store(POISON_STORE_ID);
+        List<DeliveryCompletedEvent> batch = List.of(
+                event(order(1L, s1)), event(order(2L, s2)), event(order(3L, poison)), event(order(4L, s1)));
+
+        // 1. 배치: 매장 9 갱신에서 실패 → 전체 롤백 후 모두 재시도 토픽으로
+        listener.listen(batch);
+
+        ArgumentCaptor<List<DeliveryCompletedEvent>> forwarded = ArgumentCaptor.forClass(List.class);
+        verify(retryPublisher).forwardAll(forwarded.capture(), any());
+        assertThat(forwarded.getValue()).containsExactlyElementsOf(batch);
+        assertThat(committedOrders).isEmpty();
+        assertThat(committedProcessed).isEmpty();
+
+        // 2. 재시도 토픽: 한 건씩 처리, 원인이 된 이벤트만 실패
+        for (DeliveryCompletedEvent event : forwarded.getValue()) {
+            if (event.storeId() == POISON_STORE_ID) {
+                assertThatThrownBy(() -> handler.handle(event, DeliveryPipelineMetrics.RETRY));
+            } else {
+                handler.handle(event, DeliveryPipelineMetrics.RETRY);
+            }
+        }
+
+        // 3. 같은 배치가 메인 토픽에서 다시 전달돼도 반영되지 않음
+        for (DeliveryCompletedEvent event : batch) {
+            if (event.storeId() != POISON_STORE_ID) handler.handle(event, DeliveryPipelineMetrics.RETRY);
+        }
+
+        assertThat(committedOrders).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2, 2L, 1));
+        assertThat(committedProcessed).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    private ProcessedDeliveryRepository processedRepository() {
+        ProcessedDeliveryRepository repository = mock(ProcessedDeliveryRepository.class);
+        when(repository.findProcessed(any())).thenAnswer(invocation -> {
+            Set<Long> found = new HashSet<>(invocation.<Collection<Long>>getArgument(0));
+            found.retainAll(committedProcessed);
+            return found;
+        });
+        when(repository.insertIgnoreAll(any(), any())).thenAnswer(invocation -> {
+            Set<Long> inserted = new LinkedHashSet<>(invocation.<List<Long>>getArgument(0));
+            inserted.removeAll(committedProcessed);
+            transactionManager.write(() -> committedProcessed.addAll(inserted));
+            return inserted;
+        });
+        when(repository.markProcessed(anyLong(), any())).thenAnswer(invocation -> {
+            long orderId = invocation.getArgument(0);
+            if (committedProcessed.contains(orderId)) return false;
+            transactionManager.write(() -> committedProcessed.add(orderId));
+            return true;
+        });
+        return repository;
+    }
+
+    private StoreDelaySummaryRepository summaryRepository() {
+        StoreDelaySummaryRepository repository = mock(StoreDelaySummaryRepository.class);
+        when(repository.upsertStats(anyLong(), anyString(), anyInt(), anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    long storeId = invocation.getArgument(0);
+                    int newOrders = invocation.getArgument(2);
+                    transactionManager.write(() -> committedOrders.merge(storeId, newOrders, Integer::sum));
+                    return 1;
+                });
+        doThrow(new IllegalStateException("poison"))
+                .when(repository).upsertStats(eq(POISON_STORE_ID), anyString(), anyInt(), anyInt(), anyLong(), any());
+        return repository;
+    }
+
+    private OrderRepository orderRepository() {
+        OrderRepository repository = mock(OrderRepository.class);
+        when(repository.findAllWithStoreByIdIn(any())).thenAnswer(invocation -> {
+            List<Order> found = new ArrayList<>();
+            for (Long orderId : invocation.<Collection<Long>>getArgument(0)) {
+                if (orders.containsKey(orderId)) found.add(orders.get(orderId));
+            }
+            return found;
+        });
+        when(repository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(orders.get(invocation.<Long>getArgument(0))));
+        return repository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T transactional(T target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager,
+                new AnnotationTransactionAttributeSource()));
+        return (T) proxyFactory.getProxy();
+    }
+
+    private Order order(long id, Store store) {
+        Order order = Order.builder().id(id).store(store).eta(ETA).build();
+        orders.put(id, order);
+        return order;
+    }
+
+    private static DeliveryCompletedEvent event(Order order) {
+        return new DeliveryCompletedEvent(order.getId(), ETA.plusMinutes(10), order.getStore().getId());
+    }
+
+    private static Store store(long id) {
+        return Store.builder().id(id).name("store-" + id).build();
+    }
+
+    // 트랜잭션 안의 쓰기를 모아 두었다가 커밋 시에만 반영하고, 롤백 시 버림
+    private static class BufferingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        void write(Runnable action) {
+            pending.add(action);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            pending.clear();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            pending.forEach(Runnable::run);
+            pending.clear();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            pending.clear();
+        }
+    }
+}
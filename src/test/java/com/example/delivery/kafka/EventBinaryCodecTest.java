@@ -0,0 +1,78 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventBinaryCodecTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 10, 1, 12, 30, 15, 123_456_789);
+
+    @Test
+    void deliveryCompletedEventRoundTrip() {
+        DeliveryCompletedEvent event = new DeliveryCompletedEvent(7L, TIME, 42L);
+
+        byte[] encoded = EventBinaryCodec.encode(event);
+
+        assertThat(EventBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(EventBinaryCodec.decode(encoded)).isEqualTo(event);
+    }
+
+    @Test
+    void deliveryCompletedEventWithoutStoreIdRoundTrip() {
+        DeliveryCompletedEvent event = new DeliveryCompletedEvent(7L, TIME, null);
+
+        assertThat(EventBinaryCodec.decode(EventBinaryCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void etaUpdatedEventRoundTrip() {
+        EtaUpdatedEvent event = new EtaUpdatedEvent(7L, 3L, TIME);
+
+        byte[] encoded = EventBinaryCodec.encode((Object) event);
+
+        assertThat(EventBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(EventBinaryCodec.decode(encoded)).isEqualTo(event);
+    }
+
+    @Test
+    void etaUpdatedEventWithNullFieldsRoundTrip() {
+        EtaUpdatedEvent event = new EtaUpdatedEvent(7L, null, null);
+
+        assertThat(EventBinaryCodec.decode(EventBinaryCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] encoded = EventBinaryCodec.encode(new DeliveryCompletedEvent(7L, TIME, 42L));
+        encoded[1] = (byte) (EventBinaryCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> EventBinaryCodec.decode(encoded))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("버전");
+    }
+
+    @Test
+    void unknownTypeAndTruncatedMessageAreRejected() {
+        byte[] encoded = EventBinaryCodec.encode(new DeliveryCompletedEvent(7L, TIME, 42L));
+
+        byte[] unknownType = encoded.clone();
+        unknownType[2] = 99;
+        assertThatThrownBy(() -> EventBinaryCodec.decode(unknownType)).isInstanceOf(SerializationException.class);
+
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+        assertThatThrownBy(() -> EventBinaryCodec.decode(truncated)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void jsonIsNotMistakenForBinary() {
+        assertThat(EventBinaryCodec.isBinary("{\"orderId\":7}".getBytes())).isFalse();
+    }
+}
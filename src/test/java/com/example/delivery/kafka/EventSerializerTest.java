@@ -0,0 +1,89 @@
+package com.example.delivery.kafka;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSerializerTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 10, 1, 12, 30, 15);
+
+    private EventSerializer serializer;
+    private EventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = serializer("delivery-status.*");
+        deserializer = new EventDeserializer();
+        deserializer.configure(Map.of("spring.json.trusted.packages", "com.example.delivery.*"), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Test
+    void jsonTopicRoundTrip() {
+        EtaUpdatedEvent event = new EtaUpdatedEvent(7L, 3L, TIME);
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize("eta-updated", headers, event);
+
+        assertThat(EventBinaryCodec.isBinary(data)).isFalse();
+        assertThat(deserializer.deserialize("eta-updated", headers, data)).isEqualTo(event);
+    }
+
+    @Test
+    void binaryTopicRoundTrip() {
+        DeliveryCompletedEvent event = new DeliveryCompletedEvent(7L, TIME, 42L);
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize("delivery-status", headers, event);
+
+        assertThat(EventBinaryCodec.isBinary(data)).isTrue();
+        assertThat(deserializer.deserialize("delivery-status", headers, data)).isEqualTo(event);
+    }
+
+    @Test
+    void retryTopicMatchingPatternIsBinary() {
+        DeliveryCompletedEvent event = new DeliveryCompletedEvent(7L, TIME, 42L);
+
+        byte[] data = serializer.serialize("delivery-status-retry-0", new RecordHeaders(), event);
+
+        assertThat(EventBinaryCodec.isBinary(data)).isTrue();
+    }
+
+    @Test
+    void consumerReadsBothFormatsOnSameTopicDuringSwitch() {
+        // 전환 중: binary-topics 설정 전 프로듀서(JSON)와 설정 후 프로듀서(바이너리)가 같은 토픽에 보냄
+        EventSerializer before = serializer("");
+        DeliveryCompletedEvent oldEvent = new DeliveryCompletedEvent(7L, TIME, 42L);
+        DeliveryCompletedEvent newEvent = new DeliveryCompletedEvent(8L, TIME, 42L);
+        RecordHeaders oldHeaders = new RecordHeaders();
+        RecordHeaders newHeaders = new RecordHeaders();
+
+        byte[] oldData = before.serialize("delivery-status", oldHeaders, oldEvent);
+        byte[] newData = serializer.serialize("delivery-status", newHeaders, newEvent);
+        before.close();
+
+        assertThat(EventBinaryCodec.isBinary(oldData)).isFalse();
+        assertThat(deserializer.deserialize("delivery-status", oldHeaders, oldData)).isEqualTo(oldEvent);
+        assertThat(deserializer.deserialize("delivery-status", newHeaders, newData)).isEqualTo(newEvent);
+    }
+
+    private static EventSerializer serializer(String binaryTopics) {
+        EventSerializer serializer = new EventSerializer();
+        serializer.configure(Map.of(EventSerializer.BINARY_TOPICS_CONFIG, binaryTopics), false);
+        return serializer;
+    }
+}
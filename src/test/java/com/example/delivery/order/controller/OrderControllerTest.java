@@ -0,0 +1,95 @@
+package com.example.delivery.order.controller;
+
+import com.example.delivery.kafka.DeliveryEventProducer;
+import com.example.delivery.kafka.KafkaSendMetrics;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.order.dto.OrderRequest;
+import com.example.delivery.order.service.AsyncOrderService;
+import com.example.delivery.order.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderControllerTest {
+
+    private static final LocalDateTime DELIVERED_AT = LocalDateTime.of(2026, 10, 1, 12, 30);
+
+    private OrderService orderService;
+    private KafkaTemplate<String, DeliveryCompletedEvent> kafkaTemplate;
+    private OrderController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderService = mock(OrderService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        DeliveryEventProducer producer = new DeliveryEventProducer(kafkaTemplate, mock(KafkaSendMetrics.class));
+        controller = new OrderController(orderService, mock(AsyncOrderService.class), producer);
+        ReflectionTestUtils.setField(controller, "batchMaxSize", 3);
+        ReflectionTestUtils.setField(controller, "etaExtensionMaxMinutes", 60);
+    }
+
+    @Test
+    void confirmDeliveryKeysRecordByStoreId() {
+        when(orderService.findStoreId(7L)).thenReturn(Optional.of(42L));
+
+        controller.confirmDelivery(7L, DELIVERED_AT);
+
+        verify(kafkaTemplate).send("delivery-status", "42", new DeliveryCompletedEvent(7L, DELIVERED_AT, 42L));
+    }
+
+    @Test
+    void confirmDeliveryOfUnknownOrderFallsBackToOrderIdKey() {
+        when(orderService.findStoreId(7L)).thenReturn(Optional.empty());
+
+        controller.confirmDelivery(7L, DELIVERED_AT);
+
+        verify(kafkaTemplate).send("delivery-status", "7", new DeliveryCompletedEvent(7L, DELIVERED_AT, null));
+    }
+
+    @Test
+    void batchOverMaxSizeIsRejectedWithBadRequest() {
+        List<OrderRequest> requests = Collections.nCopies(4, new OrderRequest());
+
+        assertThatThrownBy(() -> controller.createOrders(requests))
+                .isInstanceOfSatisfying(IllegalArgumentException.class, e ->
+                        assertThat(controller.handleBadRequest(e).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verify(orderService, never()).makeOrders(any());
+    }
+
+    @Test
+    void etaExtensionOutOfRangeIsRejectedWithBadRequest() {
+        for (int additionalMinutes : new int[]{0, -10, 61}) {
+            assertThatThrownBy(() -> controller.extendStoreEta(1L, additionalMinutes))
+                    .isInstanceOfSatisfying(IllegalArgumentException.class, e ->
+                            assertThat(controller.handleBadRequest(e).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        verify(orderService, never()).extendEtaForStore(any(), anyInt());
+    }
+
+    @Test
+    void etaExtensionWithinRangeIsApplied() {
+        when(orderService.extendEtaForStore(1L, 60)).thenReturn(5);
+
+        assertThat(controller.extendStoreEta(1L, 60).getBody().extendedOrders()).isEqualTo(5);
+    }
+}
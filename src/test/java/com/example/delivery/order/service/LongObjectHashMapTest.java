@@ -0,0 +1,126 @@
+package com.example.delivery.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectHashMapTest {
+
+    // new LongObjectHashMap<>(4) → 칸 8개, 4번째 항목에서 크기를 늘림
+    private static final int SMALL_CAPACITY = 8;
+
+    @Test
+    void putGetRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(2L, "b")).isNull();
+        assertThat(map.put(1L, "a2")).isEqualTo("a");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isEqualTo("a2");
+        assertThat(map.get(3L)).isNull();
+
+        assertThat(map.remove(1L)).isEqualTo("a2");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(2L)).isNull();
+    }
+
+    @Test
+    void zeroKeyIsRejected() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThatThrownBy(() -> map.put(0L, "x")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(0L)).isNull();
+        assertThat(map.remove(0L)).isNull();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removingFromCollisionChainKeepsLaterKeysReachable() {
+        List<Long> chain = keysWithHome(3, 3);
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+        for (long key : chain) map.put(key, key);
+
+        assertThat(map.remove(chain.get(0))).isEqualTo(chain.get(0));
+
+        assertThat(map.get(chain.get(1))).isEqualTo(chain.get(1));
+        assertThat(map.get(chain.get(2))).isEqualTo(chain.get(2));
+        assertThat(map.remove(chain.get(1))).isEqualTo(chain.get(1));
+        assertThat(map.get(chain.get(2))).isEqualTo(chain.get(2));
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void collisionChainWrappingPastLastSlot() {
+        // 마지막 칸에서 시작한 탐사가 0번 칸으로 넘어감
+        List<Long> chain = keysWithHome(SMALL_CAPACITY - 1, 3);
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+        for (long key : chain) map.put(key, key);
+
+        assertThat(map.remove(chain.get(1))).isEqualTo(chain.get(1));
+
+        assertThat(map.get(chain.get(0))).isEqualTo(chain.get(0));
+        assertThat(map.get(chain.get(2))).isEqualTo(chain.get(2));
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void resizeKeepsAllEntries() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+        for (long key = 1; key <= 10_000; key++) map.put(key, key * 10);
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key * 10);
+        }
+
+        List<Long> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertThat(values).hasSize(10_000);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        Random random = new Random(42);
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                long value = random.nextLong();
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    // 칸 8개짜리 맵에서 같은 칸을 시작 위치로 갖는 키를 count개 고름
+    private static List<Long> keysWithHome(int home, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            if ((LongObjectHashMap.mix(key) & (SMALL_CAPACITY - 1)) == home) keys.add(key);
+        }
+        return Collections.unmodifiableList(keys);
+    }
+}
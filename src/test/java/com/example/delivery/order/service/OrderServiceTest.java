@@ -0,0 +1,55 @@
+package com.example.delivery.order.service;
+
+import com.example.delivery.eta.dto.EtaUpdatedEvent;
+import com.example.delivery.eta.service.EtaCorrectionModel;
+import com.example.delivery.eta.service.EtaHistoryWriter;
+import com.example.delivery.order.domain.DeliveryStatus;
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.repository.OrderBulkRepository;
+import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.outbox.service.OutboxService;
+import com.example.delivery.store.domain.Store;
+import com.example.delivery.store.service.StoreCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderServiceTest {
+
+    private static final LocalDateTime ETA = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private OrderRepository orderRepository;
+    private OutboxService outboxService;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        outboxService = mock(OutboxService.class);
+        orderService = new OrderService(orderRepository, mock(StoreCache.class), outboxService,
+                mock(OrderBulkRepository.class), mock(EtaCorrectionModel.class), mock(EtaHistoryWriter.class),
+                mock(ActiveOrderIndex.class));
+    }
+
+    @Test
+    void adjustEtaOfLegacyOrderWithoutUserIdOutsideIndex() {
+        // 인덱스에 없고 유저 ID가 없는 이전 주문
+        Order order = Order.builder()
+                .id(7L)
+                .store(Store.builder().id(1L).build())
+                .eta(ETA)
+                .status(DeliveryStatus.ASSIGNED)
+                .build();
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        orderService.adjustEtaByStore(7L, 10);
+
+        verify(outboxService).appendEtaUpdated(new EtaUpdatedEvent(7L, null, ETA.plusMinutes(10)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.delivery.outbox.service;
+
+import com.example.delivery.kafka.DeliveryEventProducer;
+import com.example.delivery.kafka.EtaEventProducer;
+import com.example.delivery.order.dto.DeliveryCompletedEvent;
+import com.example.delivery.outbox.domain.OutboxEvent;
+import com.example.delivery.outbox.domain.OutboxEventType;
+import com.example.delivery.outbox.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final String TOPIC = "delivery-status";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxRepository outboxRepository;
+    private DeliveryEventProducer deliveryEventProducer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        deliveryEventProducer = mock(DeliveryEventProducer.class);
+        relay = new OutboxRelay(outboxRepository, deliveryEventProducer, mock(EtaEventProducer.class), objectMapper,
+                mock(PlatformTransactionManager.class), meterRegistry, 500, 1000, true);
+    }
+
+    @Test
+    void eventsAfterFirstFailureStayInOutbox() throws Exception {
+        // 같은 매장(같은 키)의 이벤트 1~5 중 3번 전송 실패
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            events.add(event(id, new DeliveryCompletedEvent(id, CREATED_AT, 10L)));
+        }
+        when(outboxRepository.findBatchForUpdate(anyLong(), anyInt(), anyBoolean())).thenReturn(events);
+        when(deliveryEventProducer.send(anyString(), any())).thenAnswer(invocation -> {
+            DeliveryCompletedEvent event = invocation.getArgument(1);
+            return event.orderId() == 3L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("broker down"))
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        relay.relay();
+
+        // 실패한 이벤트 이전까지만 삭제, 실패한 이벤트와 그 뒤 이벤트는 다음 주기로
+        verify(outboxRepository, times(1)).deleteAll(List.of(1L, 2L));
+        assertThat(meterRegistry.counter("smarteta.outbox.relay.published").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("smarteta.outbox.relay.failed").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("smarteta.outbox.relay.lag").count()).isEqualTo(2);
+    }
+
+    @Test
+    void firstEventFailureDeletesNothing() throws Exception {
+        List<OutboxEvent> events = List.of(
+                event(1L, new DeliveryCompletedEvent(1L, CREATED_AT, 10L)),
+                event(2L, new DeliveryCompletedEvent(2L, CREATED_AT, 10L)));
+        when(outboxRepository.findBatchForUpdate(anyLong(), anyInt(), anyBoolean())).thenReturn(events);
+        when(deliveryEventProducer.send(anyString(), any())).thenAnswer(invocation -> {
+            DeliveryCompletedEvent event = invocation.getArgument(1);
+            return event.orderId() == 1L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("broker down"))
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        relay.relay();
+
+        verify(outboxRepository, times(0)).deleteAll(any());
+        assertThat(meterRegistry.counter("smarteta.outbox.relay.failed").count()).isEqualTo(2);
+    }
+
+    private OutboxEvent event(long id, DeliveryCompletedEvent payload) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic(TOPIC)
+                .eventType(OutboxEventType.DELIVERY_COMPLETED)
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
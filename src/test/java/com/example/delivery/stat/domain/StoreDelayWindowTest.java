@@ -0,0 +1,36 @@
+package com.example.delivery.stat.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreDelayWindowTest {
+
+    // 임의의 정각 (epoch 분)
+    private static final long NOW = 29_000_000L * 60;
+
+    @Test
+    void futureTimestampDoesNotMoveHeadAndLaterEventsAreKept() {
+        StoreDelayWindow window = new StoreDelayWindow();
+
+        // 3시간 뒤 시각이 들어와도 현재 버킷에 누적됨
+        window.add(NOW, NOW + 180, 1, 1, 10);
+        window.add(NOW, NOW - 5, 1, 0, 0);
+        window.add(NOW + 1, NOW + 1, 1, 1, 20);
+
+        assertThat(window.lastHour(NOW + 1).totalOrders()).isEqualTo(3);
+        assertThat(window.lastDay(NOW + 1).totalOrders()).isEqualTo(3);
+        assertThat(window.lastWeek(NOW + 1).delayedOrders()).isEqualTo(2);
+    }
+
+    @Test
+    void bucketsExpireByWallClock() {
+        StoreDelayWindow window = new StoreDelayWindow();
+        window.add(NOW, NOW, 1, 1, 10);
+
+        assertThat(window.lastHour(NOW + StoreDelayWindow.MINUTE_BUCKETS - 1).totalOrders()).isEqualTo(1);
+        assertThat(window.lastHour(NOW + StoreDelayWindow.MINUTE_BUCKETS).totalOrders()).isZero();
+        assertThat(window.lastDay(NOW + 60L * StoreDelayWindow.DAY_HOURS).totalOrders()).isZero();
+        assertThat(window.lastWeek(NOW + 60L * StoreDelayWindow.DAY_HOURS).totalOrders()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.stat.domain.StoreDelayDelta;
+import com.example.delivery.stat.dto.StoreRankingRow;
+import com.example.delivery.stat.repository.StoreDelaySummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreDelayRankingTest {
+
+    private StoreDelaySummaryRepository summaryRepository;
+    private StoreDelayRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(StoreDelaySummaryRepository.class);
+        ranking = new StoreDelayRanking(summaryRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuildReplacesUntouchedStoresWithSnapshot() {
+        ranking.apply(delta(1L, 10, 1));
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 20, 5)));
+
+        ranking.rebuild();
+
+        assertThat(ranking.getRange(0, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.totalOrders()).isEqualTo(20);
+            assertThat(entry.delayedOrders()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void deltaAppliedWhileSnapshotIsReadIsNotOverwritten() {
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 10, 1)));
+        ranking.rebuild();
+
+        // 조회 중에 커밋된 변화량은 조회 결과에 들어 있지 않음
+        when(summaryRepository.findAllRankingRows()).thenAnswer(invocation -> {
+            ranking.apply(delta(1L, 2, 2));
+            return List.of(row(1L, 10, 1));
+        });
+        ranking.rebuild();
+
+        assertThat(ranking.getRange(0, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.totalOrders()).isEqualTo(12);
+            assertThat(entry.delayedOrders()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void storeWithUncommittedDeltaIsLeftForNextResync() {
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 10, 1)));
+        ranking.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        ranking.apply(delta(1L, 2, 2));
+
+        // 조회 결과에 이미 커밋된 변화량이 들어 있어도, 메모리 반영 전이면 덮어쓰지 않음
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 12, 3)));
+        ranking.rebuild();
+        assertThat(ranking.getRange(0, 10).get(0).totalOrders()).isEqualTo(10);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertThat(ranking.getRange(0, 10).get(0).totalOrders()).isEqualTo(12);
+
+        ranking.rebuild();
+        assertThat(ranking.getRange(0, 10).get(0).totalOrders()).isEqualTo(12);
+    }
+
+    @Test
+    void storesMissingFromSnapshotAreRemoved() {
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 10, 1), row(2L, 10, 5)));
+        ranking.rebuild();
+
+        when(summaryRepository.findAllRankingRows()).thenReturn(List.of(row(1L, 10, 1)));
+        ranking.rebuild();
+
+        assertThat(ranking.getRange(0, 10)).extracting(StoreDelayRanking.Entry::storeId).containsExactly(1L);
+    }
+
+    private static StoreDelayDelta delta(long storeId, int orders, int delayed) {
+        return StoreDelayDelta.of(storeId, "store-" + storeId, orders, delayed, delayed * 10L, null);
+    }
+
+    private static StoreRankingRow row(long storeId, int orders, int delayed) {
+        return new Row(storeId, "store-" + storeId, orders, delayed, delayed * 10L);
+    }
+
+    private record Row(Long getStoreId, String getStoreName, int getTotalOrders, int getDelayedOrders,
+                       long getTotalDelayMinutes) implements StoreRankingRow {
+    }
+}
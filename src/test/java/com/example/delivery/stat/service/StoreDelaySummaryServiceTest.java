@@ -0,0 +1,222 @@
+package com.example.delivery.stat.service;
+
+import com.example.delivery.order.domain.Order;
+import com.example.delivery.order.repository.OrderRepository;
+import com.example.delivery.stat.repository.StoreDelaySummaryRepository;
+import com.example.delivery.stat.repository.StoreStatCheckpointRepository;
+import com.example.delivery.store.domain.Store;
+import com.example.delivery.store.service.StoreCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreDelaySummaryServiceTest {
+
+    private static final LocalDateTime ETA = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    // 동시 처리 테스트: 매장 ID로 나눈 파티션 수(= 최대 컨슈머 스레드 수), 매장 수, 주문 수, 한 번에 받는 주문 수
+    private static final int PARTITIONS = 4;
+    private static final int STORES = 16;
+    private static final int ORDERS = 1_600;
+    private static final int BATCH_SIZE = 20;
+
+    // 매장 통계 UPSERT 한 번의 DB 왕복 시간을 흉내 냄
+    private static final long UPSERT_LATENCY_MS = 2;
+
+    private StoreDelaySummaryRepository summaryRepository;
+    private StoreDelayRanking ranking;
+    private StoreDelaySummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(StoreDelaySummaryRepository.class);
+        ranking = new StoreDelayRanking(summaryRepository);
+        service = new StoreDelaySummaryService(summaryRepository, mock(OrderRepository.class), mock(StoreCache.class),
+                mock(StoreStatCheckpointRepository.class), ranking,
+                mock(StoreDelayWindows.class), mock(StoreDelaySketches.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void perStoreDeltasAreAppliedOnCallerThreadInStoreOrder() {
+        Store s1 = store(1L);
+        Store s2 = store(2L);
+        Store s3 = store(3L);
+        List<String> threads = new ArrayList<>();
+        when(summaryRepository.upsertStats(anyLong(), anyString(), anyInt(), anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    return 1;
+                });
+
+        service.processCompletedOrders(List.of(
+                order(1L, s3, 0), order(2L, s1, 0), order(3L, s3, 15),
+                order(4L, s2, 0), order(5L, s2, 10), order(6L, s2, 0)));
+
+        InOrder inOrder = inOrder(summaryRepository);
+        inOrder.verify(summaryRepository).upsertStats(eq(1L), eq("store-1"), eq(1), eq(0), eq(0L), any());
+        inOrder.verify(summaryRepository).upsertStats(eq(2L), eq("store-2"), eq(3), eq(1), eq(10L), any());
+        inOrder.verify(summaryRepository).upsertStats(eq(3L), eq("store-3"), eq(2), eq(1), eq(15L), any());
+        inOrder.verifyNoMoreInteractions();
+        assertThat(threads).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void rankingIsUpdatedOnlyAfterCommit() {
+        Store s1 = store(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.processCompletedOrders(List.of(order(1L, s1, 10), order(2L, s1, 0)));
+        assertThat(ranking.getRange(0, 10)).isEmpty();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+
+        assertThat(ranking.getRange(0, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.storeId()).isEqualTo(1L);
+            assertThat(entry.totalOrders()).isEqualTo(2);
+            assertThat(entry.delayedOrders()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void rolledBackBatchLeavesRankingUntouched() {
+        Store s1 = store(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.processCompletedOrders(List.of(order(1L, s1, 10)));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertThat(ranking.getRange(0, 10)).isEmpty();
+    }
+
+    @Test
+    void partitionsKeyedByStoreScaleWithThreadsAndKeepCountersExact() throws Exception {
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Store store = store(1 + i % STORES);
+            orders.add(order(i + 1, store, (i % 4) * 5));
+        }
+
+        // 주문으로 직접 계산한 매장별 기대값 (주문 수, 지연 주문 수, 지연 시간 합)
+        Map<Long, List<Long>> expected = new TreeMap<>();
+        for (Order order : orders) {
+            expected.merge(order.getStore().getId(),
+                    List.of(1L, order.isDelayed() ? 1L : 0L, order.getDelayMinutes()),
+                    (a, b) -> List.of(a.get(0) + b.get(0), a.get(1) + b.get(1), a.get(2) + b.get(2)));
+        }
+
+        Run single = runPartitioned(orders, 1);
+        Run parallel = runPartitioned(orders, PARTITIONS);
+
+        assertThat(single.counters()).isEqualTo(expected);
+        assertThat(parallel.counters()).isEqualTo(expected);
+        // 이상적으로는 1/PARTITIONS, 스케줄링 편차를 감안해 절반 이하만 요구
+        assertThat(parallel.elapsedNanos()).isLessThan(single.elapsedNanos() / 2);
+    }
+
+    /**
+     * 주문을 매장 ID로 파티션에 나누고(같은 매장은 항상 같은 파티션), 파티션마다 BATCH_SIZE 단위로 순서대로 처리함
+     * 파티션 수는 고정이고 스레드 수만 바꾸므로, 두 실행의 UPSERT 횟수는 같음
+     */
+    private Run runPartitioned(List<Order> orders, int threads) throws Exception {
+        StoreDelaySummaryRepository repository = mock(StoreDelaySummaryRepository.class);
+        Map<Long, long[]> counters = new ConcurrentHashMap<>();
+        when(repository.upsertStats(anyLong(), anyString(), anyInt(), anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(UPSERT_LATENCY_MS);
+                    long storeId = invocation.getArgument(0);
+                    int newOrders = invocation.getArgument(2);
+                    int newDelayed = invocation.getArgument(3);
+                    long newDelayMinutes = invocation.getArgument(4);
+                    counters.compute(storeId, (id, counts) -> {
+                        if (counts == null) counts = new long[3];
+                        counts[0] += newOrders;
+                        counts[1] += newDelayed;
+                        counts[2] += newDelayMinutes;
+                        return counts;
+                    });
+                    return 1;
+                });
+        StoreDelaySummaryService concurrentService = new StoreDelaySummaryService(repository,
+                mock(OrderRepository.class), mock(StoreCache.class), mock(StoreStatCheckpointRepository.class),
+                new StoreDelayRanking(repository), mock(StoreDelayWindows.class), mock(StoreDelaySketches.class));
+
+        List<List<Order>> partitions = new ArrayList<>(PARTITIONS);
+        for (int p = 0; p < PARTITIONS; p++) partitions.add(new ArrayList<>());
+        for (Order order : orders) {
+            partitions.get((int) (order.getStore().getId() % PARTITIONS)).add(order);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(PARTITIONS);
+            for (List<Order> partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    for (int from = 0; from < partition.size(); from += BATCH_SIZE) {
+                        concurrentService.processCompletedOrders(
+                                partition.subList(from, Math.min(from + BATCH_SIZE, partition.size())));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+            long elapsed = System.nanoTime() - start;
+
+            Map<Long, List<Long>> result = new TreeMap<>();
+            counters.forEach((storeId, counts) -> result.put(storeId, List.of(counts[0], counts[1], counts[2])));
+            return new Run(result, elapsed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Run(Map<Long, List<Long>> counters, long elapsedNanos) {
+    }
+
+    private static Store store(long id) {
+        return Store.builder().id(id).name("store-" + id).build();
+    }
+
+    // lateMinutes가 5분을 넘으면 지연 주문
+    private static Order order(long id, Store store, int lateMinutes) {
+        return Order.builder()
+                .id(id)
+                .store(store)
+                .eta(ETA)
+                .deliveredAt(ETA.plusMinutes(lateMinutes))
+                .build();
+    }
+}
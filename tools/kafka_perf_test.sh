@@ -3,6 +3,7 @@
 # 로그 저장 경로
 LOG_FILE="console_kafka_perf.log"
 ANALYSIS_FILE="kafka_analysis.txt"
+METRICS_URL="http://localhost:8080/actuator/prometheus"
 
 # 현재 시간 출력용
 timestamp=$(date +"%Y-%m-%d %H:%M:%S")
@@ -11,6 +12,16 @@ echo "Kafka 자동 성능 테스트 시작 (${timestamp})"
 # 기존 로그 초기화
 rm -f "$LOG_FILE" "$ANALYSIS_FILE"
 
+# 리스너 처리 시간 메트릭(smarteta.delivery.process)의 count, sum(초) 합계를 출력
+read_process_metrics() {
+  curl -s "$METRICS_URL" | awk '
+    /^smarteta_delivery_process_seconds_count/ { count += $NF }
+    /^smarteta_delivery_process_seconds_sum/   { sum += $NF }
+    END { printf "%d %f\n", count, sum }'
+}
+
+read before_count before_sum <<< "$(read_process_metrics)"
+
 # 1~5번 order 생성 및 Kafka 메시지 전송 (각 10회)
 for ORDER_ID in {1..5}
 do
@@ -31,30 +42,24 @@ do
 done
 
 echo ""
-echo "메시지 전송 완료. 로그 분석 중..."
-
-echo "📥 콘솔 로그에서 복사한 처리 시간 로그를 붙여넣으세요 (끝내려면 Ctrl+D):"
-cat >> "$LOG_FILE"
-
-# 처리 시간만 추출 후 분석
-grep "Kafka 이벤트 전체 처리 시간" "$LOG_FILE" | awk '{
-  match($0, /([0-9]+)ms/, arr)
-  time = arr[1]
-  sum += time
-  count += 1
-  if (time > max) max = time
-  if (min == 0 || time < min) min = time
-} END {
+echo "메시지 전송 완료. 처리 대기 중..."
+sleep 2
+
+# 처리 시간 메트릭 분석 (테스트 전후 차이)
+read after_count after_sum <<< "$(read_process_metrics)"
+max_ms=$(curl -s "$METRICS_URL" | awk '/^smarteta_delivery_process_seconds_max/ { if ($NF > max) max = $NF } END { printf "%.2f", max * 1000 }')
+
+awk -v count=$((after_count - before_count)) -v sum="$(echo "$after_sum - $before_sum" | bc -l)" -v max="$max_ms" '
+BEGIN {
   if (count > 0) {
-    print "Kafka 처리 시간 통계" > "'$ANALYSIS_FILE'"
-    print "총 요청 수 :", count >> "'$ANALYSIS_FILE'"
-    print "평균       :", sum / count "ms" >> "'$ANALYSIS_FILE'"
-    print "최소       :", min "ms" >> "'$ANALYSIS_FILE'"
-    print "최대       :", max "ms" >> "'$ANALYSIS_FILE'"
+    print "Kafka 처리 시간 통계"
+    print "총 요청 수 :", count
+    printf "평균       : %.2fms\n", sum / count * 1000
+    print "최대       :", max "ms (최근 구간)"
   } else {
-    print "Kafka 처리 시간 로그가 없습니다." > "'$ANALYSIS_FILE'"
+    print "Kafka 처리 시간 메트릭이 없습니다."
   }
-}'
+}' > "$ANALYSIS_FILE"
 
 echo ""
 cat "$ANALYSIS_FILE"
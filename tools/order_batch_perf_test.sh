@@ -0,0 +1,45 @@
+#!/bin/bash
+
+# 단건 주문 생성(POST /orders) vs 대량 주문 생성(POST /orders/batch) 처리량 비교
+# 사용법: ./order_batch_perf_test.sh [주문 수] [매장 ID]
+
+BASE_URL="http://localhost:8080"
+COUNT=${1:-1000}
+STORE_ID=${2:-1}
+ANALYSIS_FILE="order_batch_analysis.txt"
+
+ORDER_JSON="{\"userId\":1,\"storeId\":${STORE_ID},\"distanceKm\":2.5,\"estimatedDeliveryTimeMinutes\":15}"
+
+echo "주문 생성 성능 비교 시작 (주문 수: ${COUNT}, 매장 ID: ${STORE_ID})"
+
+# 1. 단건 생성
+start=$(date +%s%N)
+for ((i = 0; i < COUNT; i++))
+do
+  curl -s -o /dev/null -X POST "${BASE_URL}/orders" -H "Content-Type: application/json" -d "$ORDER_JSON"
+done
+single_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+
+# 2. 대량 생성 (요청 한 번)
+BATCH_JSON="["
+for ((i = 0; i < COUNT; i++))
+do
+  [ $i -gt 0 ] && BATCH_JSON+=","
+  BATCH_JSON+="$ORDER_JSON"
+done
+BATCH_JSON+="]"
+
+start=$(date +%s%N)
+curl -s -o /dev/null -X POST "${BASE_URL}/orders/batch" -H "Content-Type: application/json" -d "$BATCH_JSON"
+batch_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+
+# 결과 정리
+{
+  echo "주문 생성 처리량 비교"
+  echo "주문 수        : ${COUNT}"
+  echo "단건 생성      : ${single_ms}ms ($(( COUNT * 1000 / (single_ms > 0 ? single_ms : 1) )) orders/s)"
+  echo "대량 생성      : ${batch_ms}ms ($(( COUNT * 1000 / (batch_ms > 0 ? batch_ms : 1) )) orders/s)"
+} > "$ANALYSIS_FILE"
+
+echo ""
+cat "$ANALYSIS_FILE"
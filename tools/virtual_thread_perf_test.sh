@@ -0,0 +1,33 @@
+#!/bin/bash
+
+# 플랫폼 스레드 vs 가상 스레드, 동기(POST /orders) vs 비동기(POST /orders/async) 주문 생성 비교
+# 같은 오픈 루프 부하(loadTest)를 네 가지 조합으로 실행하고, 조합별 처리량과 꼬리 지연 시간을 정리함
+# 사용법: ./virtual_thread_perf_test.sh [초당 시나리오 수] [부하 시간(초)] [Tomcat 최대 스레드 수]
+# (Tomcat 스레드 수를 작게 주면 플랫폼 스레드 모드에서 스레드 풀이 먼저 고갈되는 상황을 재현할 수 있음)
+
+cd "$(dirname "$0")/.." || exit 1
+
+RATE=${1:-500}
+DURATION=${2:-30}
+TOMCAT_THREADS=${3:-200}
+ANALYSIS_FILE="tools/virtual_thread_analysis.txt"
+
+run() {
+  local label=$1 virtual=$2 create=$3
+  echo "실행 중: ${label}" >&2
+  ./gradlew -q loadTest -PloadgenArgs="rate=${RATE} duration=${DURATION} create=${create} \
+spring.threads.virtual.enabled=${virtual} server.tomcat.threads.max=${TOMCAT_THREADS}" 2>/dev/null \
+    | grep -E "^(실행 시나리오|POST /orders)" \
+    | sed "s/^/${label} | /"
+}
+
+{
+  echo "요청 처리 스레드 모드별 주문 생성 비교 (${RATE} scenarios/s, ${DURATION}s, Tomcat 최대 스레드 ${TOMCAT_THREADS})"
+  run "platform / sync " false sync
+  run "platform / async" false async
+  run "virtual  / sync " true sync
+  run "virtual  / async" true async
+} > "$ANALYSIS_FILE"
+
+echo ""
+cat "$ANALYSIS_FILE"